@@ -1,4 +1,4 @@
-import { useQuery } from '@tanstack/react-query'
+import { useInfiniteQuery } from '@tanstack/react-query'
 import axios from 'axios'
 import {
     Tile,
@@ -18,19 +18,27 @@ const api = axios.create({
     baseURL: import.meta.env.VITE_SPRING_BOOT_URL
 })
 
+const PAGE_SIZE = 100
+
+// Keyset pages: each response carries the cursor of the next one until hasMore is false
 function useArtifacts() {
-    return useQuery({
+    return useInfiniteQuery({
         queryKey: ['artifacts'],
-        queryFn: async () => {
-            const res = await api.get('/api/v1/artifacts')
+        queryFn: async ({ pageParam }) => {
+            const params = { limit: PAGE_SIZE }
+            if (pageParam) params.cursor = pageParam
+            const res = await api.get('/api/v1/artifacts', { params })
             return res.data
-        }
+        },
+        initialPageParam: null,
+        getNextPageParam: (lastPage) => (lastPage.hasMore ? lastPage.nextCursor : undefined)
     })
 }
 
 export default function Artifacts() {
     const navigate = useNavigate()
-    const { data, isLoading, error } = useArtifacts()
+    const { data: pages, isLoading, error, hasNextPage, fetchNextPage, isFetchingNextPage } = useArtifacts()
+    const data = pages?.pages.flatMap((page) => page.items)
 
     if (isLoading) return <div style={{ padding: '2rem' }}>Loading artifacts...</div>
     if (error) return <InlineNotification kind="error" title="Failed to load artifacts" subtitle={error.message} />
@@ -55,7 +63,9 @@ export default function Artifacts() {
             <div>
                 <div style={{ display: 'flex', justifyContent: 'space-between', alignItems: 'center', marginBottom: '1rem' }}>
                     <h3 style={{ fontSize: '1.125rem', fontWeight: 600 }}>All Artifacts</h3>
-                    <Tag type="gray" size="lg">{data?.length || 0} items</Tag>
+                    <Tag type="gray" size="lg">
+                        {hasNextPage ? `${data.length} loaded, more available` : `${data?.length || 0} items`}
+                    </Tag>
                 </div>
 
                 {data?.length === 0 ? (
@@ -102,6 +112,12 @@ export default function Artifacts() {
                         </StructuredListBody>
                     </StructuredListWrapper>
                 )}
+
+                {hasNextPage && (
+                    <Button kind="tertiary" onClick={() => fetchNextPage()} disabled={isFetchingNextPage}>
+                        {isFetchingNextPage ? 'Loading...' : 'Load more'}
+                    </Button>
+                )}
             </div>
         </Stack>
     )
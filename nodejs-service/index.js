@@ -44,7 +44,8 @@ const corsOptions = {
 
 // Middleware
 app.use(cors(corsOptions));
-app.use(express.json());
+// Sync batches arrive gzip-compressed (inflated by express.json) and can exceed the 100kb default
+app.use(express.json({ limit: process.env.JSON_BODY_LIMIT || '10mb' }));
 
 
 app.get('/health', async (req, res) => {
@@ -81,6 +81,30 @@ router.post('/', async (req, res) => {
     }
 });
 
+// Removes deleted artifacts from the vector database
+// Body: { ids: [1, 2, 3] }
+router.post('/delete', async (req, res) => {
+    try {
+        const ids = Array.isArray(req.body.ids) ? req.body.ids : [];
+
+        logger.info(`Processing delete request for ${ids.length} artifact(s)`);
+
+        await vectorService.deleteVectors(ids);
+
+        res.json({
+            success: true,
+            message: `Deleted ${ids.length} artifacts`,
+            results: ids.map(id => ({ success: true, artifactId: id }))
+        });
+    } catch (error) {
+        logger.error('Error in delete endpoint:', error);
+        res.status(500).json({
+            success: false,
+            error: error.message
+        });
+    }
+});
+
 router.post('/search', async (req, res) => {
     try {
         const { text, limit = 5 } = req.body;
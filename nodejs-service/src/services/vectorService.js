@@ -74,6 +74,26 @@ class VectorService {
         }
     }
 
+    async deleteVectors(ids) {
+        try {
+            await this.ensureInitialized();
+
+            const pointIds = ids.map(id => typeof id === 'number' ? id : parseInt(id, 10));
+
+            logger.debug(`Deleting ${pointIds.length} vector(s)`);
+
+            await this.client.delete(this.collectionName, {
+                wait: true,
+                points: pointIds
+            });
+
+            logger.debug('Vectors deleted successfully');
+        } catch (error) {
+            logger.error('Error deleting vectors:', error);
+            throw new Error('Failed to delete vectors: ' + error.message);
+        }
+    }
+
     async searchSimilar(vector, limit = 5) {
         try {
           
@@ -0,0 +1,93 @@
+package com.ibmprojects.spring_boot_service.benchmark;
+
+import com.ibmprojects.spring_boot_service.model.Artifact;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+// Deterministic synthetic artifacts shaped like CI registrations: 20 versions per name, a few
+// types/statuses/repositories, and a metadata map of the kind pipelines send (coordinates, license,
+// dependency list, nested build section). Same seed, same data, so runs are comparable.
+public final class ArtifactDatasets {
+
+    public static final String[] TYPES = {"JAR", "WAR", "DOCKER", "NPM", "ZIP"};
+    public static final String[] BUILD_STATUSES = {"SUCCESS", "SUCCESS", "SUCCESS", "FAILED", "RUNNING"};
+    private static final String[] LICENSES = {"Apache-2.0", "MIT", "EPL-2.0", "BSD-3-Clause", "Proprietary"};
+    private static final String[] BRANCHES = {"main", "develop", "release/1.x", "feature/search"};
+    private static final String[] LIBRARIES = {"org.springframework:spring-core", "com.fasterxml.jackson.core:jackson-databind",
+            "org.slf4j:slf4j-api", "io.micrometer:micrometer-core", "org.hibernate.orm:hibernate-core",
+            "com.mysql:mysql-connector-j", "org.apache.httpcomponents.client5:httpclient5"};
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 1, 0, 0);
+
+    private ArtifactDatasets() {
+    }
+
+    public static List<Artifact> artifacts(int size) {
+        SplittableRandom random = new SplittableRandom(42);
+        List<Artifact> artifacts = new ArrayList<>(size);
+        for (long id = 1; id <= size; id++) {
+            artifacts.add(artifact(id, random));
+        }
+        return artifacts;
+    }
+
+    public static Artifact artifact(long id, SplittableRandom random) {
+        int name = (int) (id / 20);
+        int repository = name % 500;
+        String artifactName = "service-" + name + "-core";
+        LocalDateTime createdAt = EPOCH.plusSeconds(id * 37);
+
+        Artifact artifact = new Artifact();
+        artifact.setId(id);
+        artifact.setName(artifactName);
+        artifact.setVersion("1." + (id % 20) + "." + random.nextInt(10));
+        artifact.setType(TYPES[name % TYPES.length]);
+        artifact.setDescription("Build output of " + artifactName + " for pipeline run " + id
+                + "; includes compiled classes, resources and the generated OpenAPI document.");
+        artifact.setFilePath("/artifacts/" + artifactName + "/" + id + "/" + artifactName + ".jar");
+        artifact.setSizeBytes(50_000L + random.nextInt(50_000_000));
+        artifact.setChecksum(String.format("%064x", random.nextLong() & Long.MAX_VALUE));
+        artifact.setCreatedAt(createdAt);
+        artifact.setUpdatedAt(createdAt);
+        artifact.setRepositoryUrl("https://github.com/example/repo-" + repository);
+        artifact.setBranch(BRANCHES[random.nextInt(BRANCHES.length)]);
+        artifact.setCommitHash(String.format("%040x", random.nextLong() & Long.MAX_VALUE));
+        artifact.setCommitAuthor("developer" + (repository % 40) + "@example.com");
+        artifact.setPipelineId("github-actions-" + (1_000_000 + id));
+        artifact.setBuildNumber(Long.toString(id % 5000));
+        artifact.setBuildStatus(BUILD_STATUSES[random.nextInt(BUILD_STATUSES.length)]);
+        artifact.setMetadata(metadata(name, artifactName, random));
+        return artifact;
+    }
+
+    private static Map<String, Object> metadata(int name, String artifactName, SplittableRandom random) {
+        List<String> dependencies = new ArrayList<>(5);
+        for (int i = 0; i < 5; i++) {
+            dependencies.add(LIBRARIES[random.nextInt(LIBRARIES.length)] + ":" + (1 + random.nextInt(6)) + "." + random.nextInt(20) + ".0");
+        }
+        Map<String, Object> tests = new LinkedHashMap<>();
+        tests.put("passed", 200 + random.nextInt(800));
+        tests.put("failed", random.nextInt(4));
+        tests.put("skipped", random.nextInt(12));
+
+        Map<String, Object> build = new LinkedHashMap<>();
+        build.put("tool", "maven");
+        build.put("jdk", "21");
+        build.put("durationMs", 30_000 + random.nextInt(600_000));
+        build.put("tests", tests);
+
+        Map<String, Object> metadata = new LinkedHashMap<>();
+        metadata.put("groupId", "com.example.group" + (name % 2000));
+        metadata.put("artifactId", artifactName);
+        metadata.put("license", LICENSES[name % LICENSES.length]);
+        metadata.put("packaging", "jar");
+        metadata.put("dependencies", dependencies);
+        metadata.put("build", build);
+        metadata.put("tags", List.of("backend", "team-" + (name % 12)));
+        return metadata;
+    }
+}
@@ -0,0 +1,99 @@
+package com.ibmprojects.spring_boot_service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactResponse;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactSummary;
+import com.ibmprojects.spring_boot_service.mapper.ArtifactMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+// Serializing ArtifactResponse lists (with metadata) the way the list/export endpoints do:
+// JSON, Smile and CBOR, with and without a ?fields= projection. Output goes to a counting
+// sink so the result is the encoded size and no buffer growth is measured.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class ArtifactJsonBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    @Param({"json", "smile", "cbor"})
+    private String format;
+
+    private List<ArtifactResponse> responses;
+    private ObjectWriter writer;
+    private ObjectWriter projectedWriter;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        responses = new ArtifactMapper().toResponses(ArtifactDatasets.artifacts(size));
+
+        // Same filter setup as JacksonConfig; the builder applies Boot's defaults (ISO dates, JavaTimeModule)
+        Jackson2ObjectMapperBuilder builder = switch (format) {
+            case "smile" -> Jackson2ObjectMapperBuilder.smile();
+            case "cbor" -> Jackson2ObjectMapperBuilder.cbor();
+            default -> Jackson2ObjectMapperBuilder.json();
+        };
+        ObjectMapper mapper = builder
+                .filters(new SimpleFilterProvider()
+                        .addFilter(ArtifactSummary.FIELDS_FILTER, SimpleBeanPropertyFilter.serializeAll()))
+                .build();
+        writer = mapper.writer();
+        projectedWriter = mapper.writer(new SimpleFilterProvider().addFilter(ArtifactSummary.FIELDS_FILTER,
+                SimpleBeanPropertyFilter.filterOutAllExcept(Set.of("id", "name", "version", "buildStatus"))));
+    }
+
+    @Benchmark
+    public long serialize() throws IOException {
+        return write(writer);
+    }
+
+    @Benchmark
+    public long serializeProjected() throws IOException {
+        return write(projectedWriter);
+    }
+
+    private long write(ObjectWriter objectWriter) throws IOException {
+        CountingOutputStream out = new CountingOutputStream();
+        objectWriter.writeValue(out, responses);
+        return out.count;
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
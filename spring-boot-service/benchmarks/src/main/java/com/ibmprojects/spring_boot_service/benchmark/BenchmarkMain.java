@@ -0,0 +1,34 @@
+package com.ibmprojects.spring_boot_service.benchmark;
+
+import org.openjdk.jmh.Main;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+// Entry point of benchmarks.jar: the regular JMH command line, except that results are written
+// as JSON to results/jmh-<timestamp>.json unless -rf/-rff are given, so releases can be diffed.
+public final class BenchmarkMain {
+
+    private BenchmarkMain() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        List<String> arguments = new ArrayList<>(List.of(args));
+        if (!arguments.contains("-rf")) {
+            arguments.add("-rf");
+            arguments.add("json");
+        }
+        if (!arguments.contains("-rff")) {
+            Path results = Path.of("results");
+            Files.createDirectories(results);
+            String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+            arguments.add("-rff");
+            arguments.add(results.resolve("jmh-" + timestamp + ".json").toString());
+        }
+        Main.main(arguments.toArray(String[]::new));
+    }
+}
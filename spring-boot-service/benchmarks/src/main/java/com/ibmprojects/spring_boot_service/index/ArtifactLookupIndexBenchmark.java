@@ -0,0 +1,104 @@
+package com.ibmprojects.spring_boot_service.index;
+
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactLookupResult;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+// Query latency of ArtifactLookupIndex over synthetic artifacts (20 versions per name, 5 types,
+// 2000 groupIds, 8 licenses). Setup also logs the retained heap of the built index, measured
+// as used heap after GC with and without it, scaled to one million artifacts.
+// Run with: java -jar target/benchmarks.jar ArtifactLookupIndexBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class ArtifactLookupIndexBenchmark {
+
+    private static final Logger log = LoggerFactory.getLogger(ArtifactLookupIndexBenchmark.class);
+
+    private static final String[] TYPES = {"JAR", "WAR", "DOCKER", "NPM", "ZIP"};
+    private static final String[] LICENSES = {"Apache-2.0", "MIT", "EPL-2.0", "LGPL-2.1", "BSD-3-Clause",
+            "GPL-3.0", "MPL-2.0", "Proprietary"};
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private ArtifactLookupIndex index;
+    private String[] prefixes;
+    private int query;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long before = usedHeapAfterGc();
+        index = new ArtifactLookupIndex(List.of("groupId", "artifactId", "license"));
+        for (int i = 1; i <= size; i++) {
+            int name = i / 20;
+            index.upsert(i, "service-" + name + "-core", "1." + (i % 20) + ".0", TYPES[name % TYPES.length],
+                    Map.of("groupId", "com.example.group" + (name % 2000),
+                            "artifactId", "service-" + name + "-core",
+                            "license", LICENSES[name % LICENSES.length]));
+        }
+        long retained = usedHeapAfterGc() - before;
+        log.info("Lookup index: {} artifacts, ~{} MB retained, ~{} MB per million",
+                index.size(), retained >> 20, (retained * 1_000_000L / size) >> 20);
+
+        SplittableRandom random = new SplittableRandom(42);
+        prefixes = new String[1024];
+        for (int i = 0; i < prefixes.length; i++) {
+            // Typeahead after 3-6 typed characters of the numeric part
+            String name = "service-" + random.nextInt(size / 20);
+            prefixes[i] = name.substring(0, Math.min(name.length(), 11 + random.nextInt(4)));
+        }
+    }
+
+    @Benchmark
+    public List<ArtifactLookupResult> namePrefix() {
+        return index.lookup(nextPrefix(), null, null, 20);
+    }
+
+    @Benchmark
+    public List<ArtifactLookupResult> namePrefixAndType() {
+        return index.lookup(nextPrefix(), "JAR", null, 20);
+    }
+
+    @Benchmark
+    public List<ArtifactLookupResult> typeAndLicense() {
+        return index.lookup(null, "WAR", Map.of("license", "MIT"), 20);
+    }
+
+    @Benchmark
+    public List<ArtifactLookupResult> groupId() {
+        return index.lookup(null, null, Map.of("groupId", "com.example.group" + (query++ & 1023)), 20);
+    }
+
+    private String nextPrefix() {
+        return prefixes[query++ & (prefixes.length - 1)];
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,60 @@
+package com.ibmprojects.spring_boot_service.mapper;
+
+import com.ibmprojects.spring_boot_service.benchmark.ArtifactDatasets;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactResponse;
+import com.ibmprojects.spring_boot_service.model.Artifact;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.beans.BeanUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// ArtifactMapper vs the BeanUtils.copyProperties path it replaced, over generated datasets
+// of 1k to 1M artifacts. Run with: java -jar target/benchmarks.jar ArtifactMapperBenchmark
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class ArtifactMapperBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private final ArtifactMapper mapper = new ArtifactMapper();
+    private List<Artifact> artifacts;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        artifacts = ArtifactDatasets.artifacts(size);
+    }
+
+    @Benchmark
+    public List<ArtifactResponse> mapper() {
+        return mapper.toResponses(artifacts);
+    }
+
+    @Benchmark
+    public List<ArtifactResponse> beanUtils() {
+        List<ArtifactResponse> responses = new ArrayList<>(artifacts.size());
+        for (Artifact artifact : artifacts) {
+            ArtifactResponse response = new ArtifactResponse();
+            BeanUtils.copyProperties(artifact, response);
+            responses.add(response);
+        }
+        return responses;
+    }
+}
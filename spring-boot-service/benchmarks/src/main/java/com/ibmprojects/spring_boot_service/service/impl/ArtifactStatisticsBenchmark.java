@@ -0,0 +1,78 @@
+package com.ibmprojects.spring_boot_service.service.impl;
+
+import com.ibmprojects.spring_boot_service.benchmark.ArtifactDatasets;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactResponse;
+import com.ibmprojects.spring_boot_service.event.ArtifactChangedEvent;
+import com.ibmprojects.spring_boot_service.mapper.ArtifactMapper;
+import com.ibmprojects.spring_boot_service.model.Artifact;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// The statistics rollup without a database: grouping a stream of change events into the
+// per-type/status/repository counters, and rendering the /statistics snapshot from them.
+// The repository is never touched because recount() is not called.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class ArtifactStatisticsBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private List<ArtifactChangedEvent> events;
+    private ArtifactStatisticsServiceImpl populated;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ArtifactMapper mapper = new ArtifactMapper();
+        List<Artifact> artifacts = ArtifactDatasets.artifacts(size);
+        events = new ArrayList<>(size + size / 10);
+        for (Artifact artifact : artifacts) {
+            events.add(ArtifactChangedEvent.created(mapper.toResponse(artifact)));
+        }
+        // A tail of build status transitions, as pipelines report RUNNING -> SUCCESS/FAILED
+        for (int i = 0; i < size; i += 10) {
+            ArtifactResponse before = mapper.toResponse(artifacts.get(i));
+            ArtifactResponse after = mapper.toResponse(artifacts.get(i));
+            after.setBuildStatus("RUNNING".equals(before.getBuildStatus()) ? "SUCCESS" : "FAILED");
+            events.add(ArtifactChangedEvent.updated(before, after));
+        }
+        populated = applyAll();
+    }
+
+    @Benchmark
+    public Map<String, Object> groupEvents() {
+        return applyAll().getStatistics(false);
+    }
+
+    @Benchmark
+    public Map<String, Object> snapshot() {
+        return populated.getStatistics(false);
+    }
+
+    private ArtifactStatisticsServiceImpl applyAll() {
+        ArtifactStatisticsServiceImpl statistics = new ArtifactStatisticsServiceImpl(null, null);
+        for (ArtifactChangedEvent event : events) {
+            statistics.onArtifactChanged(event);
+        }
+        return statistics;
+    }
+}
@@ -0,0 +1,86 @@
+package com.ibmprojects.spring_boot_service.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ibmprojects.spring_boot_service.benchmark.ArtifactDatasets;
+import com.ibmprojects.spring_boot_service.model.Artifact;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.http.ResponseEntity;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// Handling of a Node.js /api/sync response as SyncServiceImpl does it: decoding the body to
+// Object (what RestTemplate's converter does for ResponseEntity<Object>), extracting "results"
+// and splitting the batch into synced and failed artifacts. About 1% of the results are failures.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class SyncResultParsingBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    private int size;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private List<Artifact> artifacts;
+    private byte[] body;
+    private List<Map<String, Object>> decodedResults;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        artifacts = ArtifactDatasets.artifacts(size);
+        List<Map<String, Object>> results = new ArrayList<>(size);
+        for (Artifact artifact : artifacts) {
+            Map<String, Object> result = new LinkedHashMap<>();
+            boolean success = artifact.getId() % 100 != 0;
+            result.put("success", success);
+            result.put("artifactId", artifact.getId());
+            if (!success) {
+                result.put("error", "Embedding request timed out");
+            }
+            results.add(result);
+        }
+        Map<String, Object> response = new LinkedHashMap<>();
+        response.put("success", false);
+        response.put("message", "Synced " + (size - size / 100) + "/" + size + " artifacts");
+        response.put("results", results);
+        body = objectMapper.writeValueAsBytes(response);
+        decodedResults = SyncServiceImpl.parseResults(ResponseEntity.ok(objectMapper.readValue(body, Object.class)));
+    }
+
+    @Benchmark
+    public int decodeAndPartition() throws IOException {
+        List<Map<String, Object>> results =
+                SyncServiceImpl.parseResults(ResponseEntity.ok(objectMapper.readValue(body, Object.class)));
+        return partition(results);
+    }
+
+    @Benchmark
+    public int partitionOnly() {
+        return partition(decodedResults);
+    }
+
+    private int partition(List<Map<String, Object>> results) {
+        List<Artifact> succeeded = new ArrayList<>(artifacts.size());
+        List<Artifact> failed = new ArrayList<>();
+        SyncServiceImpl.partitionResults(artifacts, results, succeeded, failed);
+        return succeeded.size() - failed.size();
+    }
+}
@@ -0,0 +1,92 @@
+// k6 load test for the artifact API; run once per execution mode and compare the summaries.
+//   k6 run -e BASE_URL=http://localhost:8081 -e MODE=platform artifact-api.js
+//   k6 run -e BASE_URL=http://localhost:8081 -e MODE=virtual  artifact-api.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const API = `${BASE_URL}/api/v1/artifacts`;
+const MODE = __ENV.MODE || 'unnamed';
+const SEED = parseInt(__ENV.SEED || '2000', 10);
+const PEAK_RATE = parseInt(__ENV.PEAK_RATE || '1500', 10);
+const RUN_ID = Date.now();
+
+export const options = {
+    scenarios: {
+        // Open model: arrivals do not slow down when the service does, so queueing shows up as latency
+        burst: {
+            executor: 'ramping-arrival-rate',
+            startRate: 50,
+            timeUnit: '1s',
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+            stages: [
+                { target: PEAK_RATE / 4, duration: '30s' },
+                { target: PEAK_RATE, duration: '30s' },
+                { target: PEAK_RATE, duration: '1m' },
+                { target: 50, duration: '30s' },
+            ],
+        },
+    },
+    summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+    // NDJSON bulk ingest keeps seeding cheap; names repeat so history lookups return several versions
+    const lines = [];
+    for (let i = 0; i < SEED; i++) {
+        lines.push(JSON.stringify({
+            name: `loadtest-${RUN_ID}-${i % 100}`,
+            version: `1.${Math.floor(i / 100)}.0`,
+            type: 'JAR',
+            repositoryUrl: `https://github.com/loadtest/repo-${i % 10}`,
+            branch: 'main',
+            buildStatus: i % 7 === 0 ? 'FAILED' : 'SUCCESS',
+            description: 'k6 seed artifact',
+            metadata: { groupId: 'com.loadtest', seed: i },
+        }));
+    }
+    const res = http.post(`${API}/bulk`, lines.join('\n'), {
+        headers: { 'Content-Type': 'application/x-ndjson' },
+        timeout: '120s',
+    });
+    check(res, { 'seeded': (r) => r.status === 201 || r.status === 207 });
+    const ids = res.json('results').filter((r) => r.status === 'CREATED').map((r) => r.id);
+    return { ids };
+}
+
+export default function (data) {
+    const id = data.ids[Math.floor(Math.random() * data.ids.length)];
+    const roll = Math.random();
+    let res;
+    if (roll < 0.35) {
+        res = http.get(`${API}/${id}`, { tags: { name: 'get' } });
+    } else if (roll < 0.60) {
+        res = http.get(`${API}?limit=50`, { tags: { name: 'list' } });
+    } else if (roll < 0.80) {
+        res = http.get(`${API}/${id}/history`, { tags: { name: 'history' } });
+    } else if (roll < 0.95) {
+        const repo = `https://github.com/loadtest/repo-${Math.floor(Math.random() * 10)}`;
+        res = http.get(`${API}/by-repository?repositoryUrl=${encodeURIComponent(repo)}&buildStatus=SUCCESS&limit=50`,
+            { tags: { name: 'by-repository' } });
+    } else {
+        res = http.post(API, JSON.stringify({
+            name: `loadtest-${RUN_ID}-write`,
+            version: `${__VU}.${__ITER}.${Date.now()}`,
+            type: 'JAR',
+            buildStatus: 'SUCCESS',
+        }), { headers: { 'Content-Type': 'application/json' }, tags: { name: 'create' } });
+    }
+    check(res, { 'status 2xx': (r) => r.status >= 200 && r.status < 300 });
+}
+
+export function handleSummary(data) {
+    return {
+        [`results/${MODE}.json`]: JSON.stringify(data, null, 2),
+        stdout: `\n${MODE}: ${data.metrics.http_reqs.values.count} requests, `
+            + `p95 ${data.metrics.http_req_duration.values['p(95)'].toFixed(1)} ms, `
+            + `p99 ${data.metrics.http_req_duration.values['p(99)'].toFixed(1)} ms, `
+            + `failed ${(data.metrics.http_req_failed.values.rate * 100).toFixed(2)}%, `
+            + `dropped iterations ${data.metrics.dropped_iterations ? data.metrics.dropped_iterations.values.count : 0}\n`,
+    };
+}
@@ -2,10 +2,12 @@ package com.ibmprojects.spring_boot_service;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
 @EnableScheduling
+@EnableCaching
 public class SpringBootServiceApplication {
 
 	public static void main(String[] args) {
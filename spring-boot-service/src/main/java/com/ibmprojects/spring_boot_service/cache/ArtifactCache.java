@@ -0,0 +1,166 @@
+package com.ibmprojects.spring_boot_service.cache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ibmprojects.spring_boot_service.config.DataSourceRoutingConfig;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactResponse;
+import com.ibmprojects.spring_boot_service.event.ArtifactChangedEvent;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Supplier;
+
+// Read-through cache for the lookups CI pipelines poll: by id, by name+version and by commit hash.
+// Size and TTL limits come from spring.cache.caffeine.spec. Entries are evicted after a write
+// commits, using both the old and the new keys so renames and version changes are covered.
+// Misses are not cached, so "not found" answers always come from the database.
+// A load that started before a write committed must not outlive that write's eviction: every
+// eviction bumps a generation counter (striped by key), and a load whose generation changed while
+// it ran evicts what it just stored.
+// Callers get their own copy of a cached entry, so changing a response cannot change what later
+// callers are served; the cached entry's metadata is read-only and shared by the copies.
+// With read replicas (datasource-routing) a read right after a write may come from a replica that
+// has not applied it yet, so for max-lag after an eviction the key is served but not cached.
+@Component
+public class ArtifactCache {
+
+    public static final String BY_ID = "artifactsById";
+    public static final String BY_NAME_VERSION = "artifactsByNameVersion";
+    public static final String BY_COMMIT_HASH = "artifactsByCommitHash";
+
+    // Power of two; keys sharing a stripe only cost each other an occasional extra miss
+    private static final int GENERATION_STRIPES = 4096;
+
+    private final Cache byId;
+    private final Cache byNameVersion;
+    private final Cache byCommitHash;
+
+    // Evictions per stripe of (cache name, key)
+    private final AtomicLongArray generations = new AtomicLongArray(GENERATION_STRIPES);
+
+    // (cache name, key) of recent evictions; null without replica reads
+    private final com.github.benmanes.caffeine.cache.Cache<SimpleKey, Boolean> recentlyChanged;
+
+    public ArtifactCache(CacheManager cacheManager, ObjectProvider<DataSourceRoutingConfig> routing) {
+        this.byId = cacheManager.getCache(BY_ID);
+        this.byNameVersion = cacheManager.getCache(BY_NAME_VERSION);
+        this.byCommitHash = cacheManager.getCache(BY_COMMIT_HASH);
+        DataSourceRoutingConfig routingConfig = routing.getIfAvailable();
+        this.recentlyChanged = routingConfig == null ? null : Caffeine.newBuilder()
+                .expireAfterWrite(routingConfig.getMaxLag())
+                .maximumSize(100_000)
+                .build();
+    }
+
+    public ArtifactResponse getById(Long id, Supplier<ArtifactResponse> loader) {
+        return getOrLoad(byId, id, loader);
+    }
+
+    public ArtifactResponse getByNameAndVersion(String name, String version, Supplier<ArtifactResponse> loader) {
+        return getOrLoad(byNameVersion, new SimpleKey(name, version), loader);
+    }
+
+    public ArtifactResponse getByCommitHash(String commitHash, Supplier<ArtifactResponse> loader) {
+        return getOrLoad(byCommitHash, commitHash, loader);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArtifactChanged(ArtifactChangedEvent event) {
+        evict(event.getBefore());
+        evict(event.getAfter());
+    }
+
+    private void evict(ArtifactResponse artifact) {
+        if (artifact == null) {
+            return;
+        }
+        if (artifact.getId() != null) {
+            evict(byId, artifact.getId());
+        }
+        evict(byNameVersion, new SimpleKey(artifact.getName(), artifact.getVersion()));
+        if (artifact.getCommitHash() != null) {
+            evict(byCommitHash, artifact.getCommitHash());
+        }
+    }
+
+    private void evict(Cache cache, Object key) {
+        SimpleKey entry = new SimpleKey(cache.getName(), key);
+        // Bumped before the eviction: a load either sees the new generation or stored before the evict
+        generations.incrementAndGet(stripe(entry));
+        cache.evict(key);
+        if (recentlyChanged != null) {
+            recentlyChanged.put(entry, Boolean.TRUE);
+        }
+    }
+
+    // Loader exceptions (e.g. EntityNotFoundException) propagate unchanged and nothing is cached
+    private ArtifactResponse getOrLoad(Cache cache, Object key, Supplier<ArtifactResponse> loader) {
+        SimpleKey entry = new SimpleKey(cache.getName(), key);
+        if (recentlyChanged != null && recentlyChanged.getIfPresent(entry) != null) {
+            return loader.get();
+        }
+        int stripe = stripe(entry);
+        long generation = generations.get(stripe);
+        ArtifactResponse value;
+        try {
+            // Concurrent misses of one key share a single load
+            value = cache.get(key, () -> readOnly(loader.get()));
+        } catch (Cache.ValueRetrievalException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        if (generations.get(stripe) != generation) {
+            // Evicted while loading: the value may predate that write, and may have been stored after the evict
+            cache.evict(key);
+        }
+        return copyOf(value);
+    }
+
+    private static ArtifactResponse copyOf(ArtifactResponse source) {
+        ArtifactResponse copy = new ArtifactResponse();
+        BeanUtils.copyProperties(source, copy);
+        return copy;
+    }
+
+    private static ArtifactResponse readOnly(ArtifactResponse source) {
+        ArtifactResponse copy = copyOf(source);
+        if (copy.getMetadata() != null) {
+            copy.setMetadata(readOnlyMap(copy.getMetadata()));
+        }
+        return copy;
+    }
+
+    // Metadata is parsed JSON: nested maps and lists are copied too
+    private static Map<String, Object> readOnlyMap(Map<?, ?> map) {
+        Map<String, Object> copy = new LinkedHashMap<>();
+        map.forEach((key, value) -> copy.put(String.valueOf(key), readOnlyValue(value)));
+        return Collections.unmodifiableMap(copy);
+    }
+
+    private static Object readOnlyValue(Object value) {
+        if (value instanceof Map<?, ?> map) {
+            return readOnlyMap(map);
+        }
+        if (value instanceof List<?> list) {
+            return Collections.unmodifiableList(list.stream().map(ArtifactCache::readOnlyValue).toList());
+        }
+        return value;
+    }
+
+    private static int stripe(SimpleKey entry) {
+        int hash = entry.hashCode();
+        return (hash ^ (hash >>> 16)) & (GENERATION_STRIPES - 1);
+    }
+}
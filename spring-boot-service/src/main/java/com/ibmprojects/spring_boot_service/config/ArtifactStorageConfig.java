@@ -0,0 +1,28 @@
+package com.ibmprojects.spring_boot_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Path;
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "artifact-storage")
+@Data
+public class ArtifactStorageConfig {
+
+    // Content-addressed file store; uploads are staged in <root>/tmp on the same file system
+    private Path root = Path.of("data", "artifacts");
+
+    // Size of each direct buffer an upload is copied through
+    private DataSize bufferSize = DataSize.ofKilobytes(64);
+
+    // Upper bound on one upload; multipart uploads are also limited by spring.servlet.multipart
+    private DataSize maxSize = DataSize.ofGigabytes(2);
+
+    // Content no artifact points to is removed once it is this old (replaced or deleted artifacts);
+    // younger content may belong to an upload that has not been attached yet
+    private Duration cleanupGracePeriod = Duration.ofHours(1);
+}
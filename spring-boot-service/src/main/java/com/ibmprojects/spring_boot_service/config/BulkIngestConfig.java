@@ -0,0 +1,17 @@
+package com.ibmprojects.spring_boot_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@ConfigurationProperties(prefix = "bulk")
+@Data
+public class BulkIngestConfig {
+
+    // Rows per JDBC batch and per transaction
+    private int chunkSize = 500;
+
+    // Upper bound on items accepted by one POST /bulk request
+    private int maxItems = 10000;
+}
@@ -0,0 +1,125 @@
+package com.ibmprojects.spring_boot_service.config;
+
+import com.ibmprojects.spring_boot_service.datasource.ReadWriteDataSources;
+import com.ibmprojects.spring_boot_service.datasource.ReadWriteRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.Data;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.jdbc.JdbcConnectionDetails;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Read/write splitting: read-only transactions of API requests go to a MySQL replica whose lag is
+// within maxLag, everything else to the primary (spring.datasource). Replaces Boot's single pool;
+// both the primary and the replica pools take their Hikari settings from spring.datasource.hikari.
+@Configuration
+@ConfigurationProperties(prefix = "datasource-routing")
+@ConditionalOnProperty(prefix = "datasource-routing", name = "enabled", havingValue = "true")
+@Data
+public class DataSourceRoutingConfig {
+
+    private boolean enabled = false;
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // Replicas further behind than this (measured through the replication_heartbeat row) are skipped
+    private Duration maxLag = Duration.ofSeconds(3);
+
+    // How often the heartbeat is written to the primary and read back from each replica, in ms
+    private long heartbeatInterval = 1000;
+
+    // After a create/update/delete, reads of the same client stay on the primary for this long
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    @Bean(destroyMethod = "close")
+    public ReadWriteDataSources readWriteDataSources(DataSourceProperties properties,
+                                                     ObjectProvider<JdbcConnectionDetails> connectionDetails,
+                                                     Environment environment,
+                                                     MeterRegistry registry) {
+        // Testcontainers/@ServiceConnection publishes JdbcConnectionDetails instead of spring.datasource.url
+        JdbcConnectionDetails primaryConnection = connectionDetails.getIfAvailable();
+        DataSourceBuilder<?> primaryBuilder = primaryConnection == null
+                ? properties.initializeDataSourceBuilder()
+                : DataSourceBuilder.create()
+                        .url(primaryConnection.getJdbcUrl())
+                        .username(primaryConnection.getUsername())
+                        .password(primaryConnection.getPassword())
+                        .driverClassName(primaryConnection.getDriverClassName());
+        HikariDataSource primary = pool(primaryBuilder, "primary", environment, registry);
+
+        Map<String, HikariDataSource> replicaPools = new LinkedHashMap<>();
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(i);
+            String name = replica.getName() != null ? replica.getName() : "replica-" + (i + 1);
+            HikariDataSource pool = pool(DataSourceBuilder.create()
+                    .url(replica.getUrl())
+                    .username(replica.getUsername() != null ? replica.getUsername() : primary.getUsername())
+                    .password(replica.getPassword() != null ? replica.getPassword() : primary.getPassword())
+                    .driverClassName(primary.getDriverClassName()), name, environment, registry);
+            pool.setReadOnly(true);
+            if (replica.getMaximumPoolSize() != null) {
+                pool.setMaximumPoolSize(replica.getMaximumPoolSize());
+            }
+            replicaPools.put(name, pool);
+        }
+        return new ReadWriteDataSources(primary, replicaPools, maxLag);
+    }
+
+    @Bean
+    public DataSource dataSource(ReadWriteDataSources readWriteDataSources, MeterRegistry registry) {
+        ReadWriteRoutingDataSource routing = new ReadWriteRoutingDataSource(readWriteDataSources, registry);
+        routing.afterPropertiesSet();
+
+        // The routing key is resolved when the first statement runs, after the transaction
+        // manager has marked the transaction read-only; MySQL's defaults avoid a probe connection
+        LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy();
+        proxy.setTargetDataSource(routing);
+        proxy.setDefaultAutoCommit(true);
+        proxy.setDefaultTransactionIsolation(Connection.TRANSACTION_REPEATABLE_READ);
+        proxy.afterPropertiesSet();
+        return proxy;
+    }
+
+    private static HikariDataSource pool(DataSourceBuilder<?> builder, String name,
+                                         Environment environment, MeterRegistry registry) {
+        HikariDataSource pool = builder.type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        // The pools are not beans, so Boot's DataSource metrics do not see them; same hikaricp_* meters
+        pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+        return pool;
+    }
+
+    @Data
+    public static class Replica {
+        // Used in metrics and logs; defaults to replica-<n>
+        private String name;
+
+        private String url;
+
+        // Default to the primary's credentials
+        private String username;
+        private String password;
+
+        // Defaults to spring.datasource.hikari.maximum-pool-size
+        private Integer maximumPoolSize;
+    }
+}
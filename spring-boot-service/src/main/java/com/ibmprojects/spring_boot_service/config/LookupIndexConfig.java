@@ -0,0 +1,22 @@
+package com.ibmprojects.spring_boot_service.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@ConfigurationProperties(prefix = "lookup-index")
+@Data
+public class LookupIndexConfig {
+
+    // Off by default: the index holds every artifact's name/version/type on the heap
+    private boolean enabled = false;
+
+    // Metadata keys whose values are indexed for exact lookups
+    private List<String> metadataKeys = new ArrayList<>(List.of("groupId", "artifactId", "license"));
+
+    private int maxResults = 100;
+}
@@ -0,0 +1,51 @@
+package com.ibmprojects.spring_boot_service.config;
+
+import com.ibmprojects.spring_boot_service.metrics.QueryProfiler;
+import lombok.Data;
+import net.ttddyy.dsproxy.support.ProxyDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// JDBC statement profiler (replaces show-sql / BasicBinder TRACE logging).
+// Every statement is timed per query shape; only statements slower than slowThreshold are logged.
+@Configuration
+@ConfigurationProperties(prefix = "query-profiler")
+@Data
+public class QueryProfilerConfig {
+
+    private boolean enabled = true;
+
+    // Statements at or above this are logged and kept for /actuator/slowqueries
+    private Duration slowThreshold = Duration.ofMillis(500);
+
+    // Distinct normalized statements tracked (each is one db.query timer); the rest share one "(other)" entry
+    private int maxShapes = 200;
+
+    // Most recent slow executions kept for the endpoint
+    private int slowSamples = 50;
+
+    // Shapes returned by /actuator/slowqueries when no ?top= is given
+    private int topShapes = 20;
+
+    // Static so it does not force early initialization of this class; the profiler is looked up on first use
+    @Bean
+    @ConditionalOnProperty(prefix = "query-profiler", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor queryProfilingDataSourcePostProcessor(ObjectProvider<QueryProfiler> profiler) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof ProxyDataSource)) {
+                    return QueryProfiler.wrap(dataSource, beanName, profiler);
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -1,9 +1,21 @@
 package com.ibmprojects.spring_boot_service.config;
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.web.client.ResponseErrorHandler;
 import org.springframework.web.client.RestTemplate;
 
@@ -39,9 +51,45 @@ public class RestConfig {
     // → Caught in catch block
     // → Artifacts remain isSynced=false for retry
 
+    // Keep-alive pool shared by every sync call; exposed on /actuator/prometheus as httpcomponents_httpclient_pool_*
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager syncConnectionManager(SyncConfig syncConfig) {
+        SyncConfig.Http http = syncConfig.getHttp();
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(http.getMaxConnections())
+                .setMaxConnPerRoute(http.getMaxConnectionsPerRoute())
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.of(http.getConnectTimeout()))
+                        .setSocketTimeout(Timeout.of(http.getReadTimeout()))
+                        .build())
+                .build();
+    }
+
+    @Bean
+    public MeterBinder syncConnectionPoolMetrics(PoolingHttpClientConnectionManager syncConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(syncConnectionManager, "nodejs-sync");
+    }
+
     @Bean
-    public RestTemplate restTemplate() {
-        RestTemplate restTemplate = new RestTemplate();
+    public RestTemplate restTemplate(RestTemplateBuilder builder, SyncConfig syncConfig,
+            PoolingHttpClientConnectionManager syncConnectionManager) {
+        SyncConfig.Http http = syncConfig.getHttp();
+        CloseableHttpClient httpClient = HttpClients.custom()
+                .setConnectionManager(syncConnectionManager)
+                .setDefaultRequestConfig(RequestConfig.custom()
+                        .setConnectionRequestTimeout(Timeout.of(http.getConnectionRequestTimeout()))
+                        .setResponseTimeout(Timeout.of(http.getReadTimeout()))
+                        .build())
+                .evictIdleConnections(TimeValue.of(http.getIdleTimeout()))
+                .evictExpiredConnections()
+                .build();
+
+        // Built through RestTemplateBuilder so http.client.requests timings are recorded
+        builder = builder.requestFactory(() -> new HttpComponentsClientHttpRequestFactory(httpClient));
+        if (http.isCompressRequests()) {
+            builder = builder.additionalInterceptors(new GzipRequestInterceptor(http.getCompressionThreshold()));
+        }
+        RestTemplate restTemplate = builder.build();
 
         // Custom error handler to allow 207 (Multi-Status) and process responses
         restTemplate.setErrorHandler(new ResponseErrorHandler() {
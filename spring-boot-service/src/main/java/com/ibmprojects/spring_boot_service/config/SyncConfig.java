@@ -0,0 +1,101 @@
+package com.ibmprojects.spring_boot_service.config;
+
+import lombok.Data;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+
+@Configuration
+@ConfigurationProperties(prefix = "sync")
+@Data
+public class SyncConfig {
+
+    // Artifacts per POST to the Node.js /api/sync endpoint
+    private int batchSize = 100;
+
+    // Batches posted concurrently; also bounds how many batches are held in memory
+    private int maxInFlight = 4;
+
+    private Outbox outbox = new Outbox();
+
+    private Http http = new Http();
+
+    // Not a default candidate so Boot still auto-configures applicationTaskExecutor
+    // (used by MVC async/streaming responses); inject with @Qualifier("syncExecutor")
+    @Bean(defaultCandidate = false)
+    public ThreadPoolTaskExecutor syncExecutor(Environment environment) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxInFlight);
+        executor.setMaxPoolSize(maxInFlight);
+        executor.setThreadNamePrefix("sync-");
+        // spring.threads.virtual.enabled (virtual-threads profile): the blocking Node.js calls park a
+        // virtual thread instead of holding a platform thread; maxInFlight still bounds concurrency
+        executor.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    // Runs the outbox drains triggered by commits. A single thread of its own, so a wake-up never
+    // waits behind (or takes a slot from) the sync batches running on syncExecutor
+    @Bean(defaultCandidate = false)
+    public ThreadPoolTaskExecutor outboxExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("sync-outbox-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Data
+    public static class Outbox {
+        private boolean enabled = true;
+
+        // Fallback poll in ms; committed writes also wake the dispatcher immediately
+        private long pollInterval = 1000;
+
+        // Failed events are retried after initialBackoff, doubling per attempt up to maxBackoff
+        private Duration initialBackoff = Duration.ofSeconds(1);
+
+        private Duration maxBackoff = Duration.ofMinutes(5);
+
+        // Events still failing after this many deliveries are parked until requeued (POST /actuator/syncoutbox)
+        private int maxAttempts = 10;
+
+        // How long a claimed batch belongs to the instance delivering it. Must cover a whole delivery
+        // (http.read-timeout per request); after that another instance may claim the events again
+        private Duration claimTimeout = Duration.ofMinutes(5);
+    }
+
+    // Pooled HTTP client used for the Node.js sync calls
+    @Data
+    public static class Http {
+        private int maxConnections = 20;
+
+        // All sync traffic goes to a single Node.js host, so this is the effective limit
+        private int maxConnectionsPerRoute = 10;
+
+        private Duration connectTimeout = Duration.ofSeconds(2);
+
+        // How long a caller waits for a free pooled connection
+        private Duration connectionRequestTimeout = Duration.ofSeconds(5);
+
+        // Upper bound for the Node.js side to embed and upsert one batch
+        private Duration readTimeout = Duration.ofSeconds(60);
+
+        // Idle keep-alive connections are closed after this
+        private Duration idleTimeout = Duration.ofSeconds(30);
+
+        private boolean compressRequests = true;
+
+        // Request bodies smaller than this (bytes) are sent uncompressed
+        private int compressionThreshold = 2048;
+    }
+}
@@ -1,19 +1,50 @@
 package com.ibmprojects.spring_boot_service.controller;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.ibmprojects.spring_boot_service.config.BulkIngestConfig;
 import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactCreateRequest;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactFilter;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactLookupResult;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactPageResponse;
 import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactResponse;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactSearchQuery;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactSearchResponse;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactSummary;
 import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactUpdateRequest;
+import com.ibmprojects.spring_boot_service.dto.artifact.BulkIngestResponse;
+import com.ibmprojects.spring_boot_service.dto.artifact.RepositoryArtifactsResponse;
+import com.ibmprojects.spring_boot_service.service.ArtifactBulkService;
+import com.ibmprojects.spring_boot_service.service.ArtifactContentService;
+import com.ibmprojects.spring_boot_service.service.ArtifactLookupService;
+import com.ibmprojects.spring_boot_service.service.ArtifactSearchService;
 import com.ibmprojects.spring_boot_service.service.ArtifactService;
+import com.ibmprojects.spring_boot_service.service.ArtifactStatisticsService;
+import com.ibmprojects.spring_boot_service.storage.ArtifactContent;
+import io.swagger.v3.oas.annotations.Operation;
 import jakarta.persistence.EntityNotFoundException;
-import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
-import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.io.Resource;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.time.LocalDateTime;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,7 +54,17 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class ArtifactController {
 
+    // Clients may keep read responses but must revalidate them (If-None-Match) before reuse
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final ArtifactService artifactService;
+    private final ArtifactStatisticsService statisticsService;
+    private final ArtifactBulkService bulkService;
+    private final ArtifactSearchService searchService;
+    private final ArtifactContentService contentService;
+    private final ObjectProvider<ArtifactLookupService> lookupServiceProvider;
+    private final BulkIngestConfig bulkConfig;
+    private final ObjectMapper objectMapper;
 
     @PostMapping
     public ResponseEntity<ArtifactResponse> createArtifact(@Valid @RequestBody ArtifactCreateRequest request) {
@@ -31,49 +72,226 @@ public class ArtifactController {
                 .body(artifactService.createArtifact(request));
     }
 
+    // CI bulk ingest: a JSON array or an NDJSON stream of create requests.
+    // 201 when every item was created, 207 with per-item results otherwise.
+    @PostMapping(value = "/bulk", consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE})
+    public ResponseEntity<BulkIngestResponse> bulkCreateArtifacts(InputStream body) throws IOException {
+        List<ArtifactCreateRequest> requests = new ArrayList<>();
+        // MappingIterator reads both a top-level array and a bare sequence of objects
+        try (MappingIterator<ArtifactCreateRequest> items =
+                     objectMapper.readerFor(ArtifactCreateRequest.class).readValues(body)) {
+            while (items.hasNextValue()) {
+                if (requests.size() == bulkConfig.getMaxItems()) {
+                    throw new IllegalArgumentException(
+                            "Bulk request exceeds the limit of " + bulkConfig.getMaxItems() + " items");
+                }
+                requests.add(items.nextValue());
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed bulk payload: " + e.getOriginalMessage());
+        }
+
+        BulkIngestResponse response = bulkService.ingest(requests);
+        HttpStatus status = response.getCreated() == response.getReceived() ? HttpStatus.CREATED : HttpStatus.MULTI_STATUS;
+        return ResponseEntity.status(status).body(response);
+    }
+
+    // Conditional GETs: a cheap version query decides 304 before any entity is loaded, mapped or
+    // serialized. A 200 takes its ETag from the body itself, which may come from the cache or a
+    // replica and be older than that query; pairing it with the newer version would let the client
+    // revalidate a stale copy indefinitely.
     @GetMapping("/{id}")
-    public ResponseEntity<ArtifactResponse> getArtifact(@PathVariable Long id) {
-        return ResponseEntity.ok(artifactService.getArtifactById(id));
+    public ResponseEntity<ArtifactResponse> getArtifact(
+            @PathVariable Long id,
+            WebRequest webRequest,
+            HttpServletResponse response) {
+        if (webRequest.checkNotModified(artifactService.getArtifactETag(id))) {
+            return notModified();
+        }
+        ArtifactResponse artifact = artifactService.getArtifactById(id);
+        // checkNotModified has already set the ETag of the queried version; replace it with the body's
+        response.setHeader(HttpHeaders.ETAG, "\"" + artifactService.getArtifactETag(artifact) + "\"");
+        return ResponseEntity.ok().cacheControl(REVALIDATE).body(artifact);
     }
 
     @GetMapping
-    public ResponseEntity<List<ArtifactResponse>> getAllArtifacts() {
-        return ResponseEntity.ok(artifactService.getAllArtifacts());
+    public ResponseEntity<ArtifactPageResponse> getArtifacts(
+            ArtifactFilter filter,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        return ResponseEntity.ok(artifactService.getArtifacts(filter, cursor, limit));
+    }
+
+    // Full export as newline-delimited JSON, written row by row while the DB result is streamed
+    @GetMapping(value = "/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportArtifacts(
+            ArtifactFilter filter,
+            @RequestParam(required = false) String fields) {
+        ObjectWriter writer = StringUtils.hasText(fields)
+                ? objectMapper.writer(FieldProjectionAdvice.filtersFor(fields))
+                : objectMapper.writer();
+        StreamingResponseBody body = outputStream -> {
+            artifactService.streamArtifacts(filter, artifact -> {
+                try {
+                    outputStream.write(writer.writeValueAsBytes(artifact));
+                    outputStream.write('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            outputStream.flush();
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(body);
     }
 
+    // Conditional writes: with If-Match (an ETag of GET /{id}) the artifact must still be at that
+    // version, else 412. The service checks the version again on the loaded row, and row_version
+    // guards the UPDATE itself, so a write that commits in between ends in a 409 instead of being lost.
+    // Without If-Match the update applies to whatever version is current.
     @PutMapping("/{id}")
     public ResponseEntity<ArtifactResponse> updateArtifact(
             @PathVariable Long id,
-            @Valid @RequestBody ArtifactUpdateRequest request) {
-        return ResponseEntity.ok(artifactService.updateArtifact(id, request));
+            @Valid @RequestBody ArtifactUpdateRequest request,
+            WebRequest webRequest) {
+        String expectedETag = null;
+        if (webRequest.getHeader(HttpHeaders.IF_MATCH) != null) {
+            expectedETag = artifactService.getArtifactETag(id);
+            if (webRequest.checkNotModified(expectedETag)) {
+                return preconditionFailed();
+            }
+        }
+        ArtifactResponse artifact = artifactService.updateArtifact(id, request, expectedETag);
+        return ResponseEntity.ok().eTag(artifactService.getArtifactETag(artifact)).body(artifact);
     }
 
+    // Binary upload, raw body or a multipart "file" part. checksum (SHA-256), sizeBytes and filePath
+    // are set from the stored content; uploading bytes that are already stored reuses that file.
+    @PutMapping(value = "/{id}/content", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    public ResponseEntity<ArtifactResponse> uploadContent(@PathVariable Long id, InputStream body) {
+        return ResponseEntity.ok(contentService.uploadContent(id, body));
+    }
+
+    @PutMapping(value = "/{id}/content", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<ArtifactResponse> uploadContentMultipart(
+            @PathVariable Long id,
+            @RequestPart("file") MultipartFile file) throws IOException {
+        try (InputStream content = file.getInputStream()) {
+            return ResponseEntity.ok(contentService.uploadContent(id, content));
+        }
+    }
+
+    // The checksum is the ETag: content at a given address never changes
+    @GetMapping("/{id}/content")
+    public ResponseEntity<Resource> getContent(@PathVariable Long id, WebRequest webRequest) {
+        // Body and ETag come from the same lookup; stored content always has a checksum
+        ArtifactContent content = contentService.getContent(id);
+        String etag = "\"" + content.getChecksum() + "\"";
+        if (webRequest.checkNotModified(etag)) {
+            return notModified();
+        }
+        return ResponseEntity.ok()
+                .eTag(etag)
+                .cacheControl(REVALIDATE)
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .body(content.getResource());
+    }
+
+    // If-Match as for PUT /{id}
     @DeleteMapping("/{id}")
-    public ResponseEntity<Void> deleteArtifact(@PathVariable Long id) {
-        artifactService.deleteArtifact(id);
+    public ResponseEntity<Void> deleteArtifact(@PathVariable Long id, WebRequest webRequest) {
+        String expectedETag = null;
+        if (webRequest.getHeader(HttpHeaders.IF_MATCH) != null) {
+            expectedETag = artifactService.getArtifactETag(id);
+            if (webRequest.checkNotModified(expectedETag)) {
+                return preconditionFailed();
+            }
+        }
+        artifactService.deleteArtifact(id, expectedETag);
         return ResponseEntity.noContent().build();
     }
 
-    @GetMapping("/search")
+    @GetMapping(value = "/search", params = {"name", "version"})
     public ResponseEntity<ArtifactResponse> findByNameAndVersion(
             @RequestParam String name,
             @RequestParam String version) {
         return ResponseEntity.ok(artifactService.findByNameAndVersion(name, version));
     }
 
+    // Full-text search (word prefixes over name and description) with exact filters and facets.
+    // Not for name without version: that is an incomplete exact lookup, and since ArtifactSearchQuery
+    // has no name filter it would silently return everything; neither mapping matches, so it is a 400.
+    @GetMapping(value = "/search", params = {"!version", "!name"})
+    public ResponseEntity<ArtifactSearchResponse> searchArtifacts(
+            ArtifactSearchQuery query,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(searchService.search(query, page, size));
+    }
+
+    // Typeahead lookups from the in-process index (lookup-index.enabled).
+    // meta is repeatable: ?meta=groupId:org.hibernate&meta=license:Apache-2.0
+    @GetMapping("/lookup")
+    public ResponseEntity<List<ArtifactLookupResult>> lookupArtifacts(
+            @RequestParam(required = false) String prefix,
+            @RequestParam(required = false) String type,
+            @RequestParam(required = false) List<String> meta,
+            @RequestParam(defaultValue = "20") int limit) {
+        ArtifactLookupService lookupService = lookupServiceProvider.getIfAvailable();
+        if (lookupService == null) {
+            throw new EntityNotFoundException("Lookup index is disabled (lookup-index.enabled=false)");
+        }
+        Map<String, String> metadata = new HashMap<>();
+        if (meta != null) {
+            for (String entry : meta) {
+                int separator = entry.indexOf(':');
+                if (separator <= 0) {
+                    throw new IllegalArgumentException("meta must be key:value, got: " + entry);
+                }
+                metadata.put(entry.substring(0, separator), entry.substring(separator + 1));
+            }
+        }
+        return ResponseEntity.ok(lookupService.lookup(prefix, type, metadata, limit));
+    }
+
+    @GetMapping("/latest")
+    public ResponseEntity<ArtifactResponse> getLatestVersion(
+            @RequestParam String name,
+            @RequestParam(defaultValue = "false") boolean includePrerelease) {
+        return ResponseEntity.ok(artifactService.getLatestVersion(name, includePrerelease));
+    }
+
+    // range: ^1.2, ~1.2.3, 1.x, >=1.2.0 <2.0.0, ...
+    @GetMapping("/resolve")
+    public ResponseEntity<ArtifactResponse> resolveVersion(
+            @RequestParam String name,
+            @RequestParam String range,
+            @RequestParam(defaultValue = "false") boolean includePrerelease) {
+        return ResponseEntity.ok(artifactService.resolveVersion(name, range, includePrerelease));
+    }
+
     @GetMapping("/{id}/history")
-    public ResponseEntity<List<ArtifactResponse>> getArtifactHistory(@PathVariable Long id) {
-        return ResponseEntity.ok(artifactService.getArtifactHistoryByName(id));
+    public ResponseEntity<List<ArtifactSummary>> getArtifactHistory(@PathVariable Long id, WebRequest webRequest) {
+        String etag = artifactService.getHistoryETag(id);
+        if (webRequest.checkNotModified(etag)) {
+            return notModified();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(artifactService.getArtifactHistoryByName(id));
     }
 
     @GetMapping("/by-repository")
-    public ResponseEntity<Map<String, Object>> getArtifactsByRepository(
-            @RequestParam String repositoryUrl) {
-        Map<String, Object> response = new HashMap<>();
-        response.put("repositoryUrl", repositoryUrl);
-        response.put("artifacts", artifactService.getArtifactsByRepository(repositoryUrl));
-        response.put("totalCount", artifactService.getArtifactsByRepository(repositoryUrl).size());
-        return ResponseEntity.ok(response);
+    public ResponseEntity<RepositoryArtifactsResponse> getArtifactsByRepository(
+            @RequestParam String repositoryUrl,
+            @RequestParam(required = false) String branch,
+            @RequestParam(required = false) String buildStatus,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int limit) {
+        ArtifactFilter filter = new ArtifactFilter();
+        filter.setRepositoryUrl(repositoryUrl);
+        filter.setBranch(branch);
+        filter.setBuildStatus(buildStatus);
+        return ResponseEntity.ok(artifactService.getArtifactsByRepository(filter, cursor, limit));
     }
 
     @GetMapping("/by-commit-hash")
@@ -82,41 +300,29 @@ public class ArtifactController {
         return ResponseEntity.ok(artifactService.getArtifactByCommitHash(commitHash));
     }
 
+    @Operation(summary = "Artifact statistics of the answering instance",
+            description = "Counters kept in memory by each service instance and adjusted on every write it handles. "
+                    + "With several instances the numbers are per node and may differ between them until "
+                    + "fresh=true recounts them from the database on the node that answers.")
     @GetMapping("/statistics")
-    public ResponseEntity<Map<String, Object>> getArtifactStatistics() {
-        return ResponseEntity.ok(artifactService.getArtifactStatistics());
+    public ResponseEntity<Map<String, Object>> getArtifactStatistics(
+            @RequestParam(defaultValue = "false") boolean fresh,
+            WebRequest webRequest) {
+        Map<String, Object> statistics = statisticsService.getStatistics(fresh);
+        String etag = statisticsService.getStatisticsETag(statistics);
+        if (webRequest.checkNotModified(etag)) {
+            return notModified();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(statistics);
     }
 
-    @ExceptionHandler(EntityNotFoundException.class)
-    public ResponseEntity<Map<String, Object>> handleEntityNotFound(
-            EntityNotFoundException ex,
-            HttpServletRequest request) {
-
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("timestamp", LocalDateTime.now());
-        errorResponse.put("status", HttpStatus.NOT_FOUND.value());
-        errorResponse.put("error", "Not Found");
-        errorResponse.put("message", ex.getMessage());
-        errorResponse.put("path", request.getRequestURI());
-
-        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(errorResponse);
+    // checkNotModified has already written the 304 status and the ETag header
+    private static <T> ResponseEntity<T> notModified() {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
     }
 
-    // for exceptional handling of duplicate entries
-
-    @ExceptionHandler(DataIntegrityViolationException.class)
-    public ResponseEntity<Map<String, Object>> handleDuplicateEntry(
-            DataIntegrityViolationException ex,
-            HttpServletRequest request) {
-
-        Map<String, Object> errorResponse = new HashMap<>();
-        errorResponse.put("timestamp", LocalDateTime.now());
-        errorResponse.put("status", HttpStatus.CONFLICT.value());
-        errorResponse.put("error", "Conflict");
-        errorResponse.put("message",
-                "An artifact with this name and version already exists. Please use a different version or update the existing artifact.");
-        errorResponse.put("path", request.getRequestURI());
-
-        return ResponseEntity.status(HttpStatus.CONFLICT).body(errorResponse);
+    // For writes checkNotModified answers a failed If-Match with 412 instead
+    private static <T> ResponseEntity<T> preconditionFailed() {
+        return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).build();
     }
 }
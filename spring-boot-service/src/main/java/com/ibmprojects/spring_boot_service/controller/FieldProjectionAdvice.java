@@ -0,0 +1,44 @@
+package com.ibmprojects.spring_boot_service.controller;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactSummary;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+import java.util.Set;
+
+// ?fields=id,name,version limits every artifact (summary or full) in the body (single, page, history, ...)
+// to the listed properties. Applies to JSON, CBOR and Smile alike; wrapper DTOs are not filtered.
+@ControllerAdvice(assignableTypes = ArtifactController.class)
+public class FieldProjectionAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    static final String FIELDS_PARAM = "fields";
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+                                           MethodParameter returnType, ServerHttpRequest request,
+                                           ServerHttpResponse response) {
+        HttpServletRequest servletRequest = ((ServletServerHttpRequest) request).getServletRequest();
+        String fields = servletRequest.getParameter(FIELDS_PARAM);
+        if (!StringUtils.hasText(fields)) {
+            return;
+        }
+        bodyContainer.setFilters(filtersFor(fields));
+    }
+
+    static FilterProvider filtersFor(String fields) {
+        Set<String> properties = StringUtils.commaDelimitedListToSet(fields.replace(" ", ""));
+        return new SimpleFilterProvider()
+                .addFilter(ArtifactSummary.FIELDS_FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(properties));
+    }
+}
@@ -0,0 +1,32 @@
+package com.ibmprojects.spring_boot_service.datasource;
+
+// Whether read-only transactions on the current thread may use a replica. Set by
+// ReadYourWritesFilter for API requests; threads it never ran on (sync, outbox, scheduled
+// jobs, async export) have no context and read from the primary.
+public final class ReadRoutingContext {
+
+    public enum Mode {
+        // Read-only transactions may go to a caught-up replica
+        REPLICA,
+        // The client wrote recently: read its own writes from the primary
+        STICKY
+    }
+
+    private static final ThreadLocal<Mode> MODE = new ThreadLocal<>();
+
+    private ReadRoutingContext() {
+    }
+
+    public static void set(Mode mode) {
+        MODE.set(mode);
+    }
+
+    // null outside API requests
+    public static Mode get() {
+        return MODE.get();
+    }
+
+    public static void clear() {
+        MODE.remove();
+    }
+}
@@ -0,0 +1,86 @@
+package com.ibmprojects.spring_boot_service.datasource;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// The primary pool and the replica pools, with the newest heartbeat seen on each replica.
+// Lag is now - that heartbeat, evaluated whenever a replica is picked, so it keeps growing when
+// heartbeats stop arriving (replication stalled, or the monitor itself not running) instead of
+// freezing at the last measurement. Replicas are handed out round-robin among those within
+// maxLag; a replica that has not been seen yet, or whose last check failed, is never used.
+public class ReadWriteDataSources implements AutoCloseable {
+
+    private final HikariDataSource primary;
+    private final Map<String, HikariDataSource> replicas;
+    private final List<String> replicaNames;
+    private final long maxLagMillis;
+
+    // Replica name -> epoch ms (this JVM's clock) of the newest heartbeat visible on it
+    private final Map<String, Long> beatAtMillis = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    public ReadWriteDataSources(HikariDataSource primary, Map<String, HikariDataSource> replicas, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = Collections.unmodifiableMap(replicas);
+        this.replicaNames = List.copyOf(replicas.keySet());
+        this.maxLagMillis = maxLag.toMillis();
+    }
+
+    public HikariDataSource getPrimary() {
+        return primary;
+    }
+
+    public Map<String, HikariDataSource> getReplicas() {
+        return replicas;
+    }
+
+    // Name of a replica to read from, or null if none is caught up
+    public String healthyReplica() {
+        int size = replicaNames.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            String name = replicaNames.get((start + i) % size);
+            if (isHealthy(name)) {
+                return name;
+            }
+        }
+        return null;
+    }
+
+    public boolean isHealthy(String replica) {
+        Long beat = beatAtMillis.get(replica);
+        return beat != null && System.currentTimeMillis() - beat <= maxLagMillis;
+    }
+
+    // null when the heartbeat could not be read
+    public void recordHeartbeat(String replica, Long beatAtMillis) {
+        if (beatAtMillis == null) {
+            this.beatAtMillis.remove(replica);
+        } else {
+            this.beatAtMillis.put(replica, beatAtMillis);
+        }
+    }
+
+    // NaN when unknown, for the lag gauge
+    public double lagMillis(String replica) {
+        Long beat = beatAtMillis.get(replica);
+        return beat == null ? Double.NaN : Math.max(0, System.currentTimeMillis() - beat);
+    }
+
+    @Override
+    public void close() {
+        List<HikariDataSource> pools = new ArrayList<>(replicas.values());
+        pools.add(primary);
+        pools.forEach(HikariDataSource::close);
+    }
+}
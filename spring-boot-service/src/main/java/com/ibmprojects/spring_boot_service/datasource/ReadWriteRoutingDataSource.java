@@ -0,0 +1,64 @@
+package com.ibmprojects.spring_boot_service.datasource;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.Map;
+
+// Picks the pool for each physical connection: a caught-up replica for read-only transactions of
+// API requests that are not sticky, the primary for everything else. Only correct behind a
+// LazyConnectionDataSourceProxy, which defers the lookup until the transaction is marked read-only.
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReadWriteDataSources dataSources;
+    private final Counter replicaReads;
+    private final Counter laggingReads;
+    private final Counter stickyReads;
+    private final Counter backgroundReads;
+
+    public ReadWriteRoutingDataSource(ReadWriteDataSources dataSources, MeterRegistry registry) {
+        this.dataSources = dataSources;
+        Map<Object, Object> targets = new HashMap<>(dataSources.getReplicas());
+        targets.put(PRIMARY, dataSources.getPrimary());
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(dataSources.getPrimary());
+        setLenientFallback(false);
+
+        this.replicaReads = readCounter(registry, "replica", "caught-up");
+        this.laggingReads = readCounter(registry, PRIMARY, "replica-lagging");
+        this.stickyReads = readCounter(registry, PRIMARY, "read-your-writes");
+        this.backgroundReads = readCounter(registry, PRIMARY, "background");
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        ReadRoutingContext.Mode mode = ReadRoutingContext.get();
+        if (mode != ReadRoutingContext.Mode.REPLICA) {
+            (mode == ReadRoutingContext.Mode.STICKY ? stickyReads : backgroundReads).increment();
+            return PRIMARY;
+        }
+        String replica = dataSources.healthyReplica();
+        if (replica == null) {
+            laggingReads.increment();
+            return PRIMARY;
+        }
+        replicaReads.increment();
+        return replica;
+    }
+
+    private static Counter readCounter(MeterRegistry registry, String target, String reason) {
+        return Counter.builder("datasource.reads")
+                .description("Connections taken for read-only transactions, by the pool they were routed to")
+                .tag("target", target)
+                .tag("reason", reason)
+                .register(registry);
+    }
+}
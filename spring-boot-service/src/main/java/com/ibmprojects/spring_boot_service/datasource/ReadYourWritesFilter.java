@@ -0,0 +1,85 @@
+package com.ibmprojects.spring_boot_service.datasource;
+
+import com.ibmprojects.spring_boot_service.config.DataSourceRoutingConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.Set;
+
+// Read-your-writes for replica reads. A create/update/delete pins the client to the primary for
+// stickyWindow: the response carries the deadline (epoch ms) as a cookie and as a header, and
+// requests presenting an unexpired deadline in either are served from the primary. Clients that
+// do not keep cookies (CI scripts) can echo the header back.
+@Component
+@ConditionalOnProperty(prefix = "datasource-routing", name = "enabled", havingValue = "true")
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    public static final String COOKIE = "read-primary-until";
+    public static final String HEADER = "X-Read-Primary-Until";
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final DataSourceRoutingConfig config;
+
+    public ReadYourWritesFilter(DataSourceRoutingConfig config) {
+        this.config = config;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        long now = System.currentTimeMillis();
+        long window = config.getStickyWindow().toMillis();
+        // Deadlines beyond one window were not issued here and are ignored
+        long primaryUntil = primaryUntil(request);
+        boolean sticky = primaryUntil > now && primaryUntil <= now + window;
+
+        if (WRITE_METHODS.contains(request.getMethod())) {
+            // Set before the handler runs: the response may be committed by the time it returns
+            long until = now + window;
+            ResponseCookie cookie = ResponseCookie.from(COOKIE, Long.toString(until))
+                    .path("/")
+                    .httpOnly(true)
+                    .maxAge(config.getStickyWindow())
+                    .build();
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+            response.setHeader(HEADER, Long.toString(until));
+            sticky = true;
+        }
+
+        ReadRoutingContext.set(sticky ? ReadRoutingContext.Mode.STICKY : ReadRoutingContext.Mode.REPLICA);
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ReadRoutingContext.clear();
+        }
+    }
+
+    private static long primaryUntil(HttpServletRequest request) {
+        String value = request.getHeader(HEADER);
+        if (value == null && request.getCookies() != null) {
+            for (Cookie cookie : request.getCookies()) {
+                if (COOKIE.equals(cookie.getName())) {
+                    value = cookie.getValue();
+                }
+            }
+        }
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+}
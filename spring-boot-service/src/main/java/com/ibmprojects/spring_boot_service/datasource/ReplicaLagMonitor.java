@@ -0,0 +1,132 @@
+package com.ibmprojects.spring_boot_service.datasource;
+
+import com.ibmprojects.spring_boot_service.config.DataSourceRoutingConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Writes the heartbeat (this JVM's clock) to the primary and reads it back from every replica.
+// Each instance has its own heartbeat row, so only one clock is ever involved and skew
+// between app hosts does not matter. now - heartbeat seen on the replica is an upper bound of
+// its lag (it includes up to one heartbeat interval); a failed read marks the replica as
+// unusable until the next check.
+// Runs on its own thread rather than the shared @Scheduled one: the scheduled sync can occupy
+// that for a whole backlog drain, and heartbeats must not stop while reads are being routed.
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "datasource-routing", name = "enabled", havingValue = "true")
+public class ReplicaLagMonitor {
+
+    private static final String UPDATE_HEARTBEAT = "UPDATE replication_heartbeat SET beat_at_ms = ? WHERE instance_id = ?";
+    private static final String INSERT_HEARTBEAT = "INSERT INTO replication_heartbeat (instance_id, beat_at_ms) VALUES (?, ?)";
+    private static final String READ_HEARTBEAT = "SELECT beat_at_ms FROM replication_heartbeat WHERE instance_id = ?";
+    private static final String DELETE_HEARTBEAT = "DELETE FROM replication_heartbeat WHERE instance_id = ?";
+    // Rows of instances that stopped without removing theirs
+    private static final String DELETE_ABANDONED = "DELETE FROM replication_heartbeat WHERE beat_at_ms < ?";
+    private static final long ABANDONED_AFTER_MILLIS = TimeUnit.DAYS.toMillis(1);
+    private static final int QUERY_TIMEOUT_SECONDS = 2;
+
+    @Getter
+    private final String instanceId = UUID.randomUUID().toString();
+    private final ReadWriteDataSources dataSources;
+    private final long intervalMillis;
+    // Straight to the pools: heartbeats bypass routing and the query profiler
+    private final JdbcTemplate primary;
+    private final Map<String, JdbcTemplate> replicas = new LinkedHashMap<>();
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("replica-heartbeat").daemon().factory());
+
+    public ReplicaLagMonitor(ReadWriteDataSources dataSources, DataSourceRoutingConfig config, MeterRegistry registry) {
+        this.dataSources = dataSources;
+        this.intervalMillis = config.getHeartbeatInterval();
+        this.primary = jdbcTemplate(dataSources.getPrimary());
+        dataSources.getReplicas().forEach((name, pool) -> {
+            replicas.put(name, jdbcTemplate(pool));
+            TimeGauge.builder("datasource.replica.lag", dataSources, TimeUnit.MILLISECONDS, d -> d.lagMillis(name))
+                    .description("Age of the newest heartbeat visible on the replica")
+                    .tag("replica", name)
+                    .register(registry);
+        });
+    }
+
+    @PostConstruct
+    void start() {
+        try {
+            primary.update(DELETE_ABANDONED, System.currentTimeMillis() - ABANDONED_AFTER_MILLIS);
+        } catch (DataAccessException e) {
+            log.warn("Could not clean up old replication heartbeats: {}", e.getMessage());
+        }
+        scheduler.scheduleWithFixedDelay(() -> {
+            // An exception escaping the task would cancel all further heartbeats
+            try {
+                refresh();
+            } catch (RuntimeException e) {
+                log.error("Replica heartbeat failed: {}", e.getMessage(), e);
+            }
+        }, 0, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stop() {
+        scheduler.shutdownNow();
+        try {
+            primary.update(DELETE_HEARTBEAT, instanceId);
+        } catch (DataAccessException e) {
+            log.debug("Could not remove replication heartbeat {}: {}", instanceId, e.getMessage());
+        }
+    }
+
+    public void refresh() {
+        try {
+            long now = System.currentTimeMillis();
+            if (primary.update(UPDATE_HEARTBEAT, now, instanceId) == 0) {
+                primary.update(INSERT_HEARTBEAT, instanceId, now);
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not write replication heartbeat to the primary: {}", e.getMessage());
+        }
+        replicas.forEach(this::check);
+    }
+
+    private void check(String name, JdbcTemplate replica) {
+        boolean wasHealthy = dataSources.isHealthy(name);
+        Long beat;
+        try {
+            // No row yet (not replicated so far) is a failed read as well
+            beat = replica.queryForObject(READ_HEARTBEAT, Long.class, instanceId);
+        } catch (DataAccessException e) {
+            log.debug("Heartbeat check of replica {} failed: {}", name, e.getMessage());
+            beat = null;
+        }
+        dataSources.recordHeartbeat(name, beat);
+
+        boolean healthy = dataSources.isHealthy(name);
+        double lag = dataSources.lagMillis(name);
+        if (wasHealthy && !healthy) {
+            log.warn("Replica {} taken out of read rotation (lag {})", name, Double.isNaN(lag) ? "unknown" : (long) lag + " ms");
+        } else if (!wasHealthy && healthy) {
+            log.info("Replica {} back in read rotation (lag {} ms)", name, (long) lag);
+        }
+    }
+
+    private static JdbcTemplate jdbcTemplate(DataSource dataSource) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.setQueryTimeout(QUERY_TIMEOUT_SECONDS);
+        return jdbcTemplate;
+    }
+}
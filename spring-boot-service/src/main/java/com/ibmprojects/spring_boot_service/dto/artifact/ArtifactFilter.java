@@ -0,0 +1,23 @@
+package com.ibmprojects.spring_boot_service.dto.artifact;
+
+import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+// Optional filters shared by the paged listing and the NDJSON export.
+// Null fields are ignored.
+@Data
+public class ArtifactFilter {
+    private String name;
+    private String type;
+    private String buildStatus;
+    private String repositoryUrl;
+    private String branch;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdFrom;
+
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME)
+    private LocalDateTime createdTo;
+}
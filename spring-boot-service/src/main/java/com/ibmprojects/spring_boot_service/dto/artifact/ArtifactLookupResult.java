@@ -0,0 +1,14 @@
+package com.ibmprojects.spring_boot_service.dto.artifact;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// Typeahead hit from the in-process lookup index; fetch the full artifact by id when needed
+@Data
+@AllArgsConstructor
+public class ArtifactLookupResult {
+    private Long id;
+    private String name;
+    private String version;
+    private String type;
+}
@@ -0,0 +1,16 @@
+package com.ibmprojects.spring_boot_service.dto.artifact;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+public class ArtifactPageResponse {
+    private List<ArtifactSummary> items;
+
+    // Pass back as ?cursor= to fetch the next page; null on the last page
+    private String nextCursor;
+    private boolean hasMore;
+}
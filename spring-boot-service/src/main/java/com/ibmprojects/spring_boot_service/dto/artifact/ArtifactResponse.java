@@ -1,36 +1,22 @@
 package com.ibmprojects.spring_boot_service.dto.artifact;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.ToString;
 
-import java.time.LocalDateTime;
 import java.util.Map;
 
+// Full artifact: the summary columns plus description and metadata
 @Data
+@EqualsAndHashCode(callSuper = true)
+@ToString(callSuper = true)
+public class ArtifactResponse extends ArtifactSummary {
 
-public class ArtifactResponse {
-
-    private Long id;
-    private String name;
-    private String version;
-    private String type;
     private String description;
-    private String filePath;
-    private Long sizeBytes;
-    private String checksum;
-    private LocalDateTime createdAt;
-    private LocalDateTime updatedAt;
     private Map<String, Object> metadata;
 
-    // CI/CD Integration fields
-    private String repositoryUrl;
-    private String branch;
-    private String commitHash;
-    private String commitAuthor;
-    private String pipelineId;
-    private String buildNumber;
-    private String buildStatus;
-
-    // GitHub profile info (optional)
-    private String authorAvatarUrl;
-    private String authorGithubUsername;
+    // Version of the row this response was mapped from; the 200 ETag of GET /{id} is built from it
+    @JsonIgnore
+    private Long rowVersion;
 }
@@ -0,0 +1,18 @@
+package com.ibmprojects.spring_boot_service.dto.artifact;
+
+import lombok.Data;
+
+// Parameters of GET /search?q=... . q is matched against name and description
+// (word prefixes); the other fields are exact filters. Null fields are ignored.
+@Data
+public class ArtifactSearchQuery {
+    private String q;
+    private String type;
+    private String buildStatus;
+    private String repositoryUrl;
+
+    // Hot metadata keys, served by the generated meta_* columns
+    private String groupId;
+    private String artifactId;
+    private String license;
+}
@@ -0,0 +1,17 @@
+package com.ibmprojects.spring_boot_service.dto.artifact;
+
+import lombok.Data;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+public class ArtifactSearchResponse {
+    private List<ArtifactResponse> items;
+    private long total;
+    private int page;
+    private int size;
+
+    // facet name (type, buildStatus, repositoryUrl) -> value -> matching artifacts
+    private Map<String, Map<String, Long>> facets;
+}
@@ -0,0 +1,44 @@
+package com.ibmprojects.spring_boot_service.dto.artifact;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// Row of the list, history and by-repository views: every column except the large
+// description TEXT and metadata JSON, selected directly by the queries (no entity, no JSON parsing).
+// GET /{id} returns the full ArtifactResponse.
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+// ?fields= projection (FieldProjectionAdvice); serializes every property when no projection is requested
+@JsonFilter(ArtifactSummary.FIELDS_FILTER)
+public class ArtifactSummary {
+
+    public static final String FIELDS_FILTER = "artifactFields";
+
+    private Long id;
+    private String name;
+    private String version;
+    private String type;
+    private String filePath;
+    private Long sizeBytes;
+    private String checksum;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // CI/CD Integration fields
+    private String repositoryUrl;
+    private String branch;
+    private String commitHash;
+    private String commitAuthor;
+    private String pipelineId;
+    private String buildNumber;
+    private String buildStatus;
+
+    // GitHub profile info (optional)
+    private String authorAvatarUrl;
+    private String authorGithubUsername;
+}
@@ -0,0 +1,30 @@
+package com.ibmprojects.spring_boot_service.dto.artifact;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkIngestResponse {
+    private int received;
+    private int created;
+    private int conflicts;
+    private int invalid;
+
+    // One entry per submitted item, in request order
+    private List<BulkItemResult> results;
+
+    public static BulkIngestResponse of(List<BulkItemResult> results) {
+        BulkIngestResponse response = new BulkIngestResponse();
+        response.setReceived(results.size());
+        response.setResults(results);
+        for (BulkItemResult result : results) {
+            switch (result.getStatus()) {
+                case CREATED -> response.created++;
+                case CONFLICT -> response.conflicts++;
+                case INVALID -> response.invalid++;
+            }
+        }
+        return response;
+    }
+}
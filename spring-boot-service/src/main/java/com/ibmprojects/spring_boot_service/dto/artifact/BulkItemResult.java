@@ -0,0 +1,50 @@
+package com.ibmprojects.spring_boot_service.dto.artifact;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class BulkItemResult {
+
+    public enum Status {
+        CREATED,
+        CONFLICT,
+        INVALID
+    }
+
+    // Position of the item in the request body
+    private int index;
+    private Status status;
+    private Long id;
+    private String name;
+    private String version;
+    private List<String> errors;
+
+    public static BulkItemResult created(int index, ArtifactResponse artifact) {
+        BulkItemResult result = of(index, Status.CREATED, artifact.getName(), artifact.getVersion());
+        result.setId(artifact.getId());
+        return result;
+    }
+
+    public static BulkItemResult conflict(int index, ArtifactCreateRequest request, String error) {
+        BulkItemResult result = of(index, Status.CONFLICT, request.getName(), request.getVersion());
+        result.setErrors(List.of(error));
+        return result;
+    }
+
+    public static BulkItemResult invalid(int index, ArtifactCreateRequest request, List<String> errors) {
+        BulkItemResult result = of(index, Status.INVALID, request.getName(), request.getVersion());
+        result.setErrors(errors);
+        return result;
+    }
+
+    private static BulkItemResult of(int index, Status status, String name, String version) {
+        BulkItemResult result = new BulkItemResult();
+        result.setIndex(index);
+        result.setStatus(status);
+        result.setName(name);
+        result.setVersion(version);
+        return result;
+    }
+}
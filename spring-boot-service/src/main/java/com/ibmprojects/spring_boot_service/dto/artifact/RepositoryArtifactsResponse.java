@@ -0,0 +1,18 @@
+package com.ibmprojects.spring_boot_service.dto.artifact;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class RepositoryArtifactsResponse {
+    private String repositoryUrl;
+    private List<ArtifactSummary> artifacts;
+
+    // Pass back as ?cursor= to fetch the next page; null on the last page
+    private String nextCursor;
+    private boolean hasMore;
+
+    // Only set on the first page
+    private Long totalCount;
+}
@@ -0,0 +1,31 @@
+package com.ibmprojects.spring_boot_service.event;
+
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactResponse;
+import lombok.Value;
+
+// Published by ArtifactServiceImpl for every write so read-side components
+// (statistics rollup, caches, indexes, sync) can follow changes without polling.
+// before is null for CREATED, after is null for DELETED.
+@Value
+public class ArtifactChangedEvent {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    ChangeType type;
+    ArtifactResponse before;
+    ArtifactResponse after;
+
+    public static ArtifactChangedEvent created(ArtifactResponse after) {
+        return new ArtifactChangedEvent(ChangeType.CREATED, null, after);
+    }
+
+    public static ArtifactChangedEvent updated(ArtifactResponse before, ArtifactResponse after) {
+        return new ArtifactChangedEvent(ChangeType.UPDATED, before, after);
+    }
+
+    public static ArtifactChangedEvent deleted(ArtifactResponse before) {
+        return new ArtifactChangedEvent(ChangeType.DELETED, before, null);
+    }
+}
@@ -0,0 +1,227 @@
+package com.ibmprojects.spring_boot_service.index;
+
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactLookupResult;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-memory inverted index for typeahead lookups by name prefix, type and metadata values.
+// Every artifact gets a dense int slot; postings are int slot lists/bitsets (PostingList) and
+// the id -> slot map is primitive (LongIntHashMap), so a million artifacts cost a few flat
+// arrays rather than millions of boxed Longs. Freed slots are reused.
+// Reads share a read lock; writes (one artifact at a time) take the write lock.
+public class ArtifactLookupIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+
+    private final Collection<String> metadataKeys;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final LongIntHashMap slotsById = new LongIntHashMap(INITIAL_CAPACITY);
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private String[] names = new String[INITIAL_CAPACITY];
+    private String[] versions = new String[INITIAL_CAPACITY];
+    private String[] types = new String[INITIAL_CAPACITY];
+    private String[][] metadataTerms = new String[INITIAL_CAPACITY][];
+    private int slotCount;
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+
+    // Lower-cased name -> slots; sorted so a prefix is a contiguous sub-map
+    private final NavigableMap<String, PostingList> byName = new TreeMap<>();
+    private final Map<String, PostingList> byType = new HashMap<>();
+    // "key=value" -> slots, only for the configured metadata keys
+    private final Map<String, PostingList> byMetadata = new HashMap<>();
+
+    // One shared String per distinct name/version/type/term: versions like "1.0.0" and the
+    // metadata terms repeat across many artifacts. Only grows; a rebuild starts a fresh index.
+    private final Map<String, String> strings = new HashMap<>();
+
+    public ArtifactLookupIndex(Collection<String> metadataKeys) {
+        this.metadataKeys = List.copyOf(metadataKeys);
+    }
+
+    public void upsert(long id, String name, String version, String type, Map<String, ?> metadata) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotsById.get(id);
+            if (slot == LongIntHashMap.MISSING) {
+                slot = allocateSlot();
+                slotsById.put(id, slot);
+                ids[slot] = id;
+            } else {
+                unindex(slot);
+            }
+            names[slot] = canonical(name);
+            versions[slot] = canonical(version);
+            types[slot] = canonical(type);
+            metadataTerms[slot] = metadataTerms(metadata);
+            index(slot);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotsById.remove(id);
+            if (slot == LongIntHashMap.MISSING) {
+                return;
+            }
+            unindex(slot);
+            ids[slot] = 0;
+            names[slot] = null;
+            versions[slot] = null;
+            types[slot] = null;
+            metadataTerms[slot] = null;
+            if (freeCount == freeSlots.length) {
+                freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            }
+            freeSlots[freeCount++] = slot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // Artifacts matching every given criterion (null/empty criteria are ignored), at most limit.
+    // With a name prefix, results come in name order; otherwise in slot order.
+    public List<ArtifactLookupResult> lookup(String namePrefix, String type, Map<String, String> metadata, int limit) {
+        lock.readLock().lock();
+        try {
+            List<PostingList> filters = new ArrayList<>();
+            if (type != null) {
+                PostingList postings = byType.get(type);
+                if (postings == null) {
+                    return List.of();
+                }
+                filters.add(postings);
+            }
+            if (metadata != null) {
+                for (Map.Entry<String, String> entry : metadata.entrySet()) {
+                    PostingList postings = byMetadata.get(entry.getKey() + '=' + entry.getValue());
+                    if (postings == null) {
+                        return List.of();
+                    }
+                    filters.add(postings);
+                }
+            }
+            // Check the most selective lists first
+            filters.sort(Comparator.comparingInt(PostingList::size));
+
+            List<ArtifactLookupResult> results = new ArrayList<>(Math.min(limit, 64));
+            if (namePrefix != null && !namePrefix.isEmpty()) {
+                String prefix = namePrefix.toLowerCase(Locale.ROOT);
+                for (PostingList postings : byName.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+                    if (!collect(postings, filters, 0, results, limit)) {
+                        break;
+                    }
+                }
+            } else if (!filters.isEmpty()) {
+                collect(filters.get(0), filters, 1, results, limit);
+            }
+            return results;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return slotsById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Returns false once the limit is reached
+    private boolean collect(PostingList source, List<PostingList> filters, int firstFilter,
+                            List<ArtifactLookupResult> results, int limit) {
+        return source.forEach(slot -> {
+            for (int i = firstFilter; i < filters.size(); i++) {
+                if (!filters.get(i).contains(slot)) {
+                    return true;
+                }
+            }
+            results.add(new ArtifactLookupResult(ids[slot], names[slot], versions[slot], types[slot]));
+            return results.size() < limit;
+        });
+    }
+
+    private void index(int slot) {
+        if (names[slot] != null) {
+            byName.computeIfAbsent(names[slot].toLowerCase(Locale.ROOT), k -> new PostingList()).add(slot);
+        }
+        if (types[slot] != null) {
+            byType.computeIfAbsent(types[slot], k -> new PostingList()).add(slot);
+        }
+        for (String term : metadataTerms[slot]) {
+            byMetadata.computeIfAbsent(term, k -> new PostingList()).add(slot);
+        }
+    }
+
+    private void unindex(int slot) {
+        if (names[slot] != null) {
+            removePosting(byName, names[slot].toLowerCase(Locale.ROOT), slot);
+        }
+        if (types[slot] != null) {
+            removePosting(byType, types[slot], slot);
+        }
+        for (String term : metadataTerms[slot]) {
+            removePosting(byMetadata, term, slot);
+        }
+    }
+
+    private static void removePosting(Map<String, PostingList> postingsByTerm, String term, int slot) {
+        PostingList postings = postingsByTerm.get(term);
+        if (postings != null) {
+            postings.remove(slot);
+            if (postings.isEmpty()) {
+                postingsByTerm.remove(term);
+            }
+        }
+    }
+
+    private String[] metadataTerms(Map<String, ?> metadata) {
+        if (metadata == null || metadata.isEmpty()) {
+            return new String[0];
+        }
+        List<String> terms = new ArrayList<>(metadataKeys.size());
+        for (String key : metadataKeys) {
+            Object value = metadata.get(key);
+            if (value != null) {
+                terms.add(canonical(key + '=' + value));
+            }
+        }
+        return terms.toArray(String[]::new);
+    }
+
+    private String canonical(String value) {
+        return value == null ? null : strings.computeIfAbsent(value, v -> v);
+    }
+
+    private int allocateSlot() {
+        if (freeCount > 0) {
+            return freeSlots[--freeCount];
+        }
+        if (slotCount == ids.length) {
+            int capacity = ids.length * 2;
+            ids = Arrays.copyOf(ids, capacity);
+            names = Arrays.copyOf(names, capacity);
+            versions = Arrays.copyOf(versions, capacity);
+            types = Arrays.copyOf(types, capacity);
+            metadataTerms = Arrays.copyOf(metadataTerms, capacity);
+        }
+        return slotCount++;
+    }
+}
@@ -0,0 +1,90 @@
+package com.ibmprojects.spring_boot_service.index;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.function.IntPredicate;
+
+// Slots containing one term. Starts as a sorted int[] and switches to a BitSet once the
+// array would be larger than the bitmap (32 bits per entry vs 1 bit per slot up to the
+// highest one), so rare terms stay tiny and common terms stay dense.
+final class PostingList {
+
+    private static final int MIN_BITSET_SIZE = 64;
+
+    private int[] docs = new int[2];
+    private BitSet bits;
+    private int size;
+
+    void add(int doc) {
+        if (bits != null) {
+            if (!bits.get(doc)) {
+                bits.set(doc);
+                size++;
+            }
+            return;
+        }
+        int pos = Arrays.binarySearch(docs, 0, size, doc);
+        if (pos >= 0) {
+            return;
+        }
+        pos = -pos - 1;
+        if (size == docs.length) {
+            docs = Arrays.copyOf(docs, size * 2);
+        }
+        System.arraycopy(docs, pos, docs, pos + 1, size - pos);
+        docs[pos] = doc;
+        size++;
+        if (size >= MIN_BITSET_SIZE && size * 32L > docs[size - 1]) {
+            bits = new BitSet(docs[size - 1] + 1);
+            for (int i = 0; i < size; i++) {
+                bits.set(docs[i]);
+            }
+            docs = null;
+        }
+    }
+
+    void remove(int doc) {
+        if (bits != null) {
+            if (bits.get(doc)) {
+                bits.clear(doc);
+                size--;
+            }
+            return;
+        }
+        int pos = Arrays.binarySearch(docs, 0, size, doc);
+        if (pos >= 0) {
+            System.arraycopy(docs, pos + 1, docs, pos, size - pos - 1);
+            size--;
+        }
+    }
+
+    boolean contains(int doc) {
+        return bits != null ? bits.get(doc) : Arrays.binarySearch(docs, 0, size, doc) >= 0;
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    // Visits slots in ascending order; stops as soon as the visitor returns false
+    boolean forEach(IntPredicate visitor) {
+        if (bits != null) {
+            for (int doc = bits.nextSetBit(0); doc >= 0; doc = bits.nextSetBit(doc + 1)) {
+                if (!visitor.test(doc)) {
+                    return false;
+                }
+            }
+            return true;
+        }
+        for (int i = 0; i < size; i++) {
+            if (!visitor.test(docs[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,98 @@
+package com.ibmprojects.spring_boot_service.mapper;
+
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactCreateRequest;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactResponse;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactUpdateRequest;
+import com.ibmprojects.spring_boot_service.model.Artifact;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Plain field-by-field copies between Artifact and its DTOs.
+// Replaces BeanUtils.copyProperties, which introspects both classes reflectively on every call.
+// Keep in sync with the DTOs when fields are added.
+@Component
+public class ArtifactMapper {
+
+    public Artifact toEntity(ArtifactCreateRequest request) {
+        Artifact artifact = new Artifact();
+        artifact.setName(request.getName());
+        artifact.setVersion(request.getVersion());
+        artifact.setType(request.getType());
+        artifact.setDescription(request.getDescription());
+        artifact.setFilePath(request.getFilePath());
+        artifact.setSizeBytes(request.getSizeBytes());
+        artifact.setMetadata(request.getMetadata());
+        artifact.setRepositoryUrl(request.getRepositoryUrl());
+        artifact.setBranch(request.getBranch());
+        artifact.setCommitHash(request.getCommitHash());
+        artifact.setCommitAuthor(request.getCommitAuthor());
+        artifact.setPipelineId(request.getPipelineId());
+        artifact.setBuildNumber(request.getBuildNumber());
+        artifact.setBuildStatus(request.getBuildStatus());
+        return artifact;
+    }
+
+    public ArtifactResponse toResponse(Artifact artifact) {
+        ArtifactResponse response = new ArtifactResponse();
+        response.setId(artifact.getId());
+        response.setName(artifact.getName());
+        response.setVersion(artifact.getVersion());
+        response.setType(artifact.getType());
+        response.setDescription(artifact.getDescription());
+        response.setFilePath(artifact.getFilePath());
+        response.setSizeBytes(artifact.getSizeBytes());
+        response.setChecksum(artifact.getChecksum());
+        response.setCreatedAt(artifact.getCreatedAt());
+        response.setUpdatedAt(artifact.getUpdatedAt());
+        response.setMetadata(artifact.getMetadata());
+        response.setRepositoryUrl(artifact.getRepositoryUrl());
+        response.setBranch(artifact.getBranch());
+        response.setCommitHash(artifact.getCommitHash());
+        response.setCommitAuthor(artifact.getCommitAuthor());
+        response.setPipelineId(artifact.getPipelineId());
+        response.setBuildNumber(artifact.getBuildNumber());
+        response.setBuildStatus(artifact.getBuildStatus());
+        response.setAuthorAvatarUrl(artifact.getAuthorAvatarUrl());
+        response.setAuthorGithubUsername(artifact.getAuthorGithubUsername());
+        response.setRowVersion(artifact.getRowVersion());
+        return response;
+    }
+
+    public List<ArtifactResponse> toResponses(List<Artifact> artifacts) {
+        List<ArtifactResponse> responses = new ArrayList<>(artifacts.size());
+        for (Artifact artifact : artifacts) {
+            responses.add(toResponse(artifact));
+        }
+        return responses;
+    }
+
+    // Partial update: only fields present in the request overwrite the entity.
+    // id, timestamps and checksum are never taken from the request, and once content has been
+    // uploaded (checksum set) neither are filePath and sizeBytes, which then describe that content.
+    public void applyUpdate(ArtifactUpdateRequest request, Artifact artifact) {
+        boolean hasContent = artifact.getChecksum() != null;
+        if (request.getName() != null) {
+            artifact.setName(request.getName());
+        }
+        if (request.getVersion() != null) {
+            artifact.setVersion(request.getVersion());
+        }
+        if (request.getType() != null) {
+            artifact.setType(request.getType());
+        }
+        if (request.getDescription() != null) {
+            artifact.setDescription(request.getDescription());
+        }
+        if (request.getFilePath() != null && !hasContent) {
+            artifact.setFilePath(request.getFilePath());
+        }
+        if (request.getSizeBytes() != null && !hasContent) {
+            artifact.setSizeBytes(request.getSizeBytes());
+        }
+        if (request.getMetadata() != null) {
+            artifact.setMetadata(request.getMetadata());
+        }
+    }
+}
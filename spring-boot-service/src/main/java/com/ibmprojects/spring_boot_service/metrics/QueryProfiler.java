@@ -0,0 +1,333 @@
+package com.ibmprojects.spring_boot_service.metrics;
+
+import com.ibmprojects.spring_boot_service.config.QueryProfilerConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.Value;
+import lombok.extern.slf4j.Slf4j;
+import net.ttddyy.dsproxy.ConnectionInfo;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import net.ttddyy.dsproxy.listener.QueryExecutionListener;
+import net.ttddyy.dsproxy.proxy.ProxyConfig;
+import net.ttddyy.dsproxy.proxy.SimpleResultSetProxyLogic;
+import net.ttddyy.dsproxy.support.ProxyDataSourceBuilder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Method;
+import java.sql.ResultSet;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.regex.Pattern;
+
+// Per-query-shape statistics for every JDBC statement, collected through a datasource-proxy wrapper.
+// A shape is the SQL with literals and IN-list lengths normalized away, so each Hibernate/JdbcTemplate
+// query maps to one entry and one db.query{shape, operation} timer. Nothing is logged per statement;
+// only executions over the slow threshold are logged and kept, with bind and row counts.
+@Component
+@Slf4j
+@ConditionalOnProperty(prefix = "query-profiler", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class QueryProfiler {
+
+    private static final String START_NANOS = QueryProfiler.class.getName() + ".start";
+    private static final String OTHER_SHAPE = "(other)";
+    private static final int MAX_SHAPE_LENGTH = 2000;
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("(?<![\\w.])-?\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+    // Result set opened by the statement that is completing on this thread (set just before afterQuery)
+    private static final ThreadLocal<RowCountingResultSetLogic> OPENED = new ThreadLocal<>();
+
+    private final QueryProfilerConfig config;
+    private final MeterRegistry registry;
+    private final long slowThresholdNanos;
+
+    // Raw SQL -> shape; Hibernate reuses the same SQL strings, so normalization runs once per statement text
+    private final Map<String, ShapeStats> bySql = new ConcurrentHashMap<>();
+    private final Map<String, ShapeStats> byShape = new ConcurrentHashMap<>();
+    private final Deque<SlowExecution> recentSlow = new ArrayDeque<>();
+
+    public QueryProfiler(QueryProfilerConfig config, MeterRegistry registry) {
+        this.config = config;
+        this.registry = registry;
+        this.slowThresholdNanos = config.getSlowThreshold().toNanos();
+    }
+
+    public static DataSource wrap(DataSource dataSource, String name, ObjectProvider<QueryProfiler> profiler) {
+        return ProxyDataSourceBuilder.create(name, dataSource)
+                .listener(new Listener(profiler))
+                .proxyResultSet(RowCountingResultSetLogic::new)
+                .buildProxy();
+    }
+
+    public long getSlowThresholdMillis() {
+        return TimeUnit.NANOSECONDS.toMillis(slowThresholdNanos);
+    }
+
+    // Shapes ordered by total time spent, i.e. where the database time actually goes
+    public List<ShapeSummary> topShapes(int limit) {
+        return byShape.values().stream()
+                .map(ShapeStats::summary)
+                .sorted(Comparator.comparingDouble(ShapeSummary::getTotalMs).reversed())
+                .limit(limit)
+                .toList();
+    }
+
+    public List<SlowExecution> recentSlowExecutions() {
+        synchronized (recentSlow) {
+            return new ArrayList<>(recentSlow);
+        }
+    }
+
+    void record(ExecutionInfo execution, List<QueryInfo> queries, RowCountingResultSetLogic opened) {
+        Long started = execution.getCustomValue(START_NANOS, Long.class);
+        long elapsedNanos = started != null
+                ? System.nanoTime() - started
+                : TimeUnit.MILLISECONDS.toNanos(execution.getElapsedTime());
+
+        ShapeStats stats = statsFor(queries);
+        stats.timer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        stats.maxNanos.accumulateAndGet(elapsedNanos, Math::max);
+        int binds = countBinds(queries);
+
+        if (opened != null && execution.getResult() instanceof ResultSet) {
+            // Rows of a SELECT are only known once the caller has read and closed the result set
+            opened.attach(this, stats, elapsedNanos, binds);
+        } else {
+            completed(stats, elapsedNanos, binds, updateCount(execution.getResult()));
+        }
+    }
+
+    void completed(ShapeStats stats, long elapsedNanos, int binds, long rows) {
+        if (rows > 0) {
+            stats.rows.add(rows);
+        }
+        if (elapsedNanos < slowThresholdNanos) {
+            return;
+        }
+        stats.slow.increment();
+        SlowExecution slow = new SlowExecution(stats.id, stats.shape, Instant.now(),
+                TimeUnit.NANOSECONDS.toMillis(elapsedNanos), binds, rows);
+        log.warn("Slow query [{}] {} ms, {} binds, {} rows: {}", stats.id, slow.getElapsedMs(), binds, rows, stats.shape);
+        synchronized (recentSlow) {
+            if (recentSlow.size() >= config.getSlowSamples()) {
+                recentSlow.removeFirst();
+            }
+            recentSlow.addLast(slow);
+        }
+    }
+
+    private ShapeStats statsFor(List<QueryInfo> queries) {
+        String sql = queries.size() == 1
+                ? queries.get(0).getQuery()
+                : String.join("; ", queries.stream().map(QueryInfo::getQuery).toList());
+        ShapeStats stats = bySql.get(sql);
+        if (stats != null) {
+            return stats;
+        }
+        String shape = normalize(sql);
+        if (!byShape.containsKey(shape) && byShape.size() >= config.getMaxShapes()) {
+            shape = OTHER_SHAPE;
+        }
+        stats = byShape.computeIfAbsent(shape, this::newShape);
+        if (bySql.size() < config.getMaxShapes() * 4) {
+            bySql.putIfAbsent(sql, stats);
+        }
+        return stats;
+    }
+
+    private ShapeStats newShape(String shape) {
+        String id = shape.equals(OTHER_SHAPE) ? "other" : String.format("%08x", shape.hashCode());
+        String operation = operationOf(shape);
+        Timer timer = Timer.builder("db.query")
+                .description("JDBC statement execution time per normalized query shape")
+                .tag("shape", id)
+                .tag("operation", operation)
+                .register(registry);
+        Counter slow = Counter.builder("db.query.slow")
+                .description("Statements slower than query-profiler.slow-threshold")
+                .tag("shape", id)
+                .tag("operation", operation)
+                .register(registry);
+        return new ShapeStats(id, shape, operation, timer, slow);
+    }
+
+    static String normalize(String sql) {
+        String shape = WHITESPACE.matcher(sql.trim()).replaceAll(" ");
+        shape = STRING_LITERAL.matcher(shape).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?, ...)");
+        return shape.length() > MAX_SHAPE_LENGTH ? shape.substring(0, MAX_SHAPE_LENGTH) + "..." : shape;
+    }
+
+    private static String operationOf(String shape) {
+        int end = shape.indexOf(' ');
+        String keyword = (end < 0 ? shape : shape.substring(0, end)).toLowerCase(Locale.ROOT);
+        return switch (keyword) {
+            case "select", "insert", "update", "delete" -> keyword;
+            default -> "other";
+        };
+    }
+
+    private static int countBinds(List<QueryInfo> queries) {
+        int binds = 0;
+        for (QueryInfo query : queries) {
+            for (List<?> parameters : query.getParametersList()) {
+                binds += parameters.size();
+            }
+        }
+        return binds;
+    }
+
+    // executeUpdate -> Integer, executeBatch -> int[]; -1 when the driver does not report it
+    private static long updateCount(Object result) {
+        if (result instanceof Number count) {
+            return count.longValue();
+        }
+        if (result instanceof int[] counts) {
+            long total = 0;
+            for (int count : counts) {
+                if (count < 0) {
+                    return -1;
+                }
+                total += count;
+            }
+            return total;
+        }
+        return -1;
+    }
+
+    private static final class ShapeStats {
+        private final String id;
+        private final String shape;
+        private final String operation;
+        private final Timer timer;
+        private final Counter slow;
+        private final AtomicLong maxNanos = new AtomicLong();
+        private final LongAdder rows = new LongAdder();
+
+        ShapeStats(String id, String shape, String operation, Timer timer, Counter slow) {
+            this.id = id;
+            this.shape = shape;
+            this.operation = operation;
+            this.timer = timer;
+            this.slow = slow;
+        }
+
+        ShapeSummary summary() {
+            long count = timer.count();
+            double totalMs = timer.totalTime(TimeUnit.MILLISECONDS);
+            return new ShapeSummary(id, operation, shape, count, totalMs,
+                    count == 0 ? 0 : totalMs / count,
+                    TimeUnit.NANOSECONDS.toMillis(maxNanos.get()),
+                    (long) slow.count(), rows.sum());
+        }
+    }
+
+    @Value
+    public static class ShapeSummary {
+        String id;
+        String operation;
+        String sql;
+        long count;
+        double totalMs;
+        double meanMs;
+        long maxMs;
+        long slowCount;
+        long rows;
+    }
+
+    @Value
+    public static class SlowExecution {
+        String id;
+        String sql;
+        Instant at;
+        long elapsedMs;
+        int binds;
+        // Rows returned (SELECT) or affected (DML); -1 when unknown
+        long rows;
+    }
+
+    private static final class Listener implements QueryExecutionListener {
+        private final ObjectProvider<QueryProfiler> provider;
+        private volatile QueryProfiler profiler;
+
+        Listener(ObjectProvider<QueryProfiler> provider) {
+            this.provider = provider;
+        }
+
+        @Override
+        public void beforeQuery(ExecutionInfo execution, List<QueryInfo> queries) {
+            execution.addCustomValue(START_NANOS, System.nanoTime());
+        }
+
+        @Override
+        public void afterQuery(ExecutionInfo execution, List<QueryInfo> queries) {
+            RowCountingResultSetLogic opened = OPENED.get();
+            OPENED.remove();
+            QueryProfiler current = profiler;
+            if (current == null) {
+                current = provider.getIfAvailable();
+                if (current == null) {
+                    return;
+                }
+                profiler = current;
+            }
+            current.record(execution, queries, opened);
+        }
+    }
+
+    // Counts next() calls of a query's result set and reports the row count when it is closed
+    private static final class RowCountingResultSetLogic extends SimpleResultSetProxyLogic {
+        private QueryProfiler profiler;
+        private ShapeStats stats;
+        private long elapsedNanos;
+        private int binds;
+        private long rows;
+
+        RowCountingResultSetLogic(ResultSet resultSet, ConnectionInfo connectionInfo, ProxyConfig proxyConfig) {
+            super(resultSet, connectionInfo, proxyConfig);
+            OPENED.set(this);
+        }
+
+        void attach(QueryProfiler profiler, ShapeStats stats, long elapsedNanos, int binds) {
+            this.profiler = profiler;
+            this.stats = stats;
+            this.elapsedNanos = elapsedNanos;
+            this.binds = binds;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Object result = super.invoke(proxy, method, args);
+            String name = method.getName();
+            if (name.equals("next")) {
+                if (Boolean.TRUE.equals(result)) {
+                    rows++;
+                }
+            } else if (name.equals("close") && profiler != null) {
+                QueryProfiler reportTo = profiler;
+                profiler = null;
+                reportTo.completed(stats, elapsedNanos, binds, rows);
+            }
+            return result;
+        }
+    }
+}
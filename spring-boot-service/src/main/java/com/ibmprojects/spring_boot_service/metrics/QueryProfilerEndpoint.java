@@ -0,0 +1,32 @@
+package com.ibmprojects.spring_boot_service.metrics;
+
+import com.ibmprojects.spring_boot_service.config.QueryProfilerConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// GET /actuator/slowqueries?top=N: the N query shapes with the most total time, plus recent slow executions
+@Component
+@Endpoint(id = "slowqueries")
+@ConditionalOnProperty(prefix = "query-profiler", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class QueryProfilerEndpoint {
+
+    private final QueryProfiler queryProfiler;
+    private final QueryProfilerConfig config;
+
+    @ReadOperation
+    public Map<String, Object> slowQueries(@Nullable Integer top) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("slowThresholdMs", queryProfiler.getSlowThresholdMillis());
+        report.put("shapes", queryProfiler.topShapes(top == null ? config.getTopShapes() : top));
+        report.put("recentSlow", queryProfiler.recentSlowExecutions());
+        return report;
+    }
+}
@@ -0,0 +1,81 @@
+package com.ibmprojects.spring_boot_service.metrics;
+
+import com.ibmprojects.spring_boot_service.repository.ArtifactRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+
+// Metrics for the Node.js vector-DB sync.
+// Tags are fixed enums (operation, outcome, result): no ids, URLs or error messages.
+@Component
+@Slf4j
+public class SyncMetrics {
+
+    public static final String UPSERT = "upsert";
+    public static final String DELETE = "delete";
+
+    // A scrape reads the backlog from the database at most this often
+    private static final long BACKLOG_REFRESH_NANOS = TimeUnit.SECONDS.toNanos(15);
+
+    private final MeterRegistry registry;
+    private final ArtifactRepository artifactRepository;
+
+    private volatile long backlog;
+    private volatile long backlogReadAt;
+
+    public SyncMetrics(MeterRegistry registry, ArtifactRepository artifactRepository) {
+        this.registry = registry;
+        this.artifactRepository = artifactRepository;
+        this.backlogReadAt = System.nanoTime() - BACKLOG_REFRESH_NANOS;
+        Gauge.builder("sync.backlog", this, SyncMetrics::readBacklog)
+                .description("Artifacts not yet synced to the vector DB")
+                .baseUnit("artifacts")
+                .register(registry);
+    }
+
+    // One POST to Node.js: how many artifacts were sent, how many it acknowledged, and how long it took
+    public void recordBatch(String operation, int size, int succeeded, long durationNanos) {
+        String outcome = succeeded == size ? "success" : succeeded == 0 ? "failure" : "partial";
+        Timer.builder("sync.batch.duration")
+                .description("Round trip of one sync request to the Node.js service")
+                .tag("operation", operation)
+                .tag("outcome", outcome)
+                .register(registry)
+                .record(durationNanos, TimeUnit.NANOSECONDS);
+        DistributionSummary.builder("sync.batch.size")
+                .baseUnit("artifacts")
+                .tag("operation", operation)
+                .register(registry)
+                .record(size);
+        Counter.builder("sync.artifacts")
+                .tag("operation", operation)
+                .tag("result", "synced")
+                .register(registry)
+                .increment(succeeded);
+        Counter.builder("sync.artifacts")
+                .tag("operation", operation)
+                .tag("result", "failed")
+                .register(registry)
+                .increment(size - succeeded);
+    }
+
+    // Index-only COUNT on idx_artifact_sync_pending, cached so frequent scrapes do not hit the database
+    private double readBacklog() {
+        long now = System.nanoTime();
+        if (now - backlogReadAt >= BACKLOG_REFRESH_NANOS) {
+            backlogReadAt = now;
+            try {
+                backlog = artifactRepository.countBySyncPendingTrue();
+            } catch (Exception e) {
+                log.warn("Could not read the sync backlog: {}", e.getMessage());
+            }
+        }
+        return backlog;
+    }
+}
@@ -0,0 +1,40 @@
+package com.ibmprojects.spring_boot_service.metrics;
+
+import com.ibmprojects.spring_boot_service.repository.SyncOutboxRepository;
+import com.ibmprojects.spring_boot_service.service.SyncOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+// GET /actuator/syncoutbox: outbox events in total, backing off and parked.
+// POST /actuator/syncoutbox: puts parked events back in the queue, e.g. after a Node.js outage.
+// Read-only unless management.endpoint.syncoutbox.access is unrestricted (see application.yml).
+@Component
+@Endpoint(id = "syncoutbox")
+@ConditionalOnProperty(prefix = "sync.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SyncOutboxEndpoint {
+
+    private final SyncOutboxRepository outboxRepository;
+    private final SyncOutboxService outboxService;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("total", outboxRepository.count());
+        status.put("backingOff", outboxRepository.countByNextAttemptAtIsNotNullAndParkedAtIsNull());
+        status.put("parked", outboxRepository.countByParkedAtIsNotNull());
+        return status;
+    }
+
+    @WriteOperation
+    public Map<String, Object> requeueParked() {
+        return Map.of("requeued", outboxService.requeueParked());
+    }
+}
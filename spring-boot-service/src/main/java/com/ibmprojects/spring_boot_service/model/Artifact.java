@@ -1,5 +1,6 @@
 package com.ibmprojects.spring_boot_service.model;
 
+import com.ibmprojects.spring_boot_service.version.SemanticVersion;
 import jakarta.persistence.*;
 import lombok.Data;
 import org.hibernate.annotations.JdbcTypeCode;
@@ -13,8 +14,11 @@ import java.util.Map;
 @Table(name = "Artifact")
 public class Artifact {
 
+    // Pooled sequence (a one-row table on MySQL, V8): ids are reserved 50 at a time,
+    // so inserts do not need a round trip per row and can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "artifact_seq")
+    @SequenceGenerator(name = "artifact_seq", sequenceName = "artifact_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -23,6 +27,14 @@ public class Artifact {
     @Column(nullable = false)
     private String version;
 
+    // Derived from version on every write (see SemanticVersion); null when it is not semver-like
+    @Column(name = "version_sort_key")
+    private Long versionSortKey;
+
+    // SemanticVersion.prereleaseSortKey(); orders the pre-releases sharing one sort key
+    @Column(name = "version_prerelease_key")
+    private String versionPrereleaseKey;
+
     @Column(nullable = false)
     private String type;
 
@@ -42,6 +54,11 @@ public class Artifact {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    // Incremented by Hibernate on every update; used for optimistic locking and ETags
+    @Version
+    @Column(name = "row_version", nullable = false)
+    private Long rowVersion;
+
     @JdbcTypeCode(SqlTypes.JSON)
     private Map<String, Object> metadata;
 
@@ -49,11 +66,19 @@ public class Artifact {
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        deriveVersionSortKey();
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        deriveVersionSortKey();
+    }
+
+    private void deriveVersionSortKey() {
+        SemanticVersion parsed = SemanticVersion.parse(version);
+        versionSortKey = parsed == null ? null : parsed.sortKey();
+        versionPrereleaseKey = parsed == null ? null : parsed.prereleaseSortKey();
     }
 
     // Sync tracking for Vector DB
@@ -63,6 +88,12 @@ public class Artifact {
     @Column(name = "last_sync_time")
     private LocalDateTime lastSyncTime;
 
+    // Computed by the database (V6) and indexed with id for the sync queue; read-only here,
+    // so it reflects the row as it was loaded. Deliberately not @Generated/@GeneratedColumn:
+    // re-reading it after every insert would disable JDBC insert batching.
+    @Column(name = "sync_pending", insertable = false, updatable = false)
+    private Boolean syncPending;
+
     // CI/CD Integration fields
     @Column(name = "repository_url")
     private String repositoryUrl;
@@ -0,0 +1,62 @@
+package com.ibmprojects.spring_boot_service.model;
+
+import com.ibmprojects.spring_boot_service.event.ArtifactChangedEvent.ChangeType;
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+@Entity
+@Table(name = "artifact_sync_outbox")
+public class SyncOutboxEvent {
+
+    // Pooled like Artifact.id so outbox rows batch together with the artifact inserts
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "artifact_sync_outbox_seq")
+    @SequenceGenerator(name = "artifact_sync_outbox_seq", sequenceName = "artifact_sync_outbox_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "artifact_id", nullable = false)
+    private Long artifactId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false)
+    private ChangeType eventType;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error")
+    private String lastError;
+
+    // Null until the first failed delivery; the event is not retried before this
+    @Column(name = "next_attempt_at")
+    private LocalDateTime nextAttemptAt;
+
+    // Set once max-attempts is exhausted; parked events wait for a requeue
+    @Column(name = "parked_at")
+    private LocalDateTime parkedAt;
+
+    // Instance delivering the event right now; other instances skip it until claimedUntil
+    @Column(name = "claimed_by", length = 64)
+    private String claimedBy;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+
+    public static SyncOutboxEvent of(Long artifactId, ChangeType eventType) {
+        SyncOutboxEvent event = new SyncOutboxEvent();
+        event.setArtifactId(artifactId);
+        event.setEventType(eventType);
+        return event;
+    }
+}
@@ -0,0 +1,56 @@
+package com.ibmprojects.spring_boot_service.repository;
+
+import com.ibmprojects.spring_boot_service.model.Artifact;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Chunked inserts for bulk ingestion. Ids come from the pooled artifact_seq, so Hibernate
+// sends the chunk as JDBC batches (hibernate.jdbc.batch_size) and, with rewriteBatchedStatements,
+// MySQL receives multi-row INSERTs.
+@Repository
+@Timed("artifact.repository")
+@RequiredArgsConstructor
+public class ArtifactBatchWriter {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    // Which of the given [name, version] pairs already exist; one lookup on uk_artifact_name_version
+    public Set<List<String>> findExistingNameVersions(List<List<String>> keys) {
+        Set<List<String>> existing = new HashSet<>();
+        if (keys.isEmpty()) {
+            return existing;
+        }
+        StringBuilder sql = new StringBuilder("SELECT name, version FROM artifact WHERE (name, version) IN (");
+        Object[] args = new Object[keys.size() * 2];
+        for (int i = 0; i < keys.size(); i++) {
+            sql.append(i == 0 ? "(?, ?)" : ", (?, ?)");
+            args[i * 2] = keys.get(i).get(0);
+            args[i * 2 + 1] = keys.get(i).get(1);
+        }
+        sql.append(')');
+        jdbcTemplate.query(sql.toString(), rs -> {
+            existing.add(List.of(rs.getString(1), rs.getString(2)));
+        }, args);
+        return existing;
+    }
+
+    // Persists the artifacts (ids are assigned here) and flushes them as one batch,
+    // so constraint violations surface from this call rather than at commit
+    public void insert(List<Artifact> artifacts) {
+        for (Artifact artifact : artifacts) {
+            entityManager.persist(artifact);
+        }
+        entityManager.flush();
+    }
+}
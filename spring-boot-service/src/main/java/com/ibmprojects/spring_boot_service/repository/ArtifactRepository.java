@@ -1,23 +1,98 @@
 package com.ibmprojects.spring_boot_service.repository;
 
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactSummary;
 import com.ibmprojects.spring_boot_service.model.Artifact;
+import com.ibmprojects.spring_boot_service.repository.projection.GroupCount;
+import com.ibmprojects.spring_boot_service.repository.projection.HistoryVersion;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
-public interface ArtifactRepository extends JpaRepository<Artifact, Long> {
+public interface ArtifactRepository extends JpaRepository<Artifact, Long>, ArtifactRepositoryCustom {
     Optional<Artifact> findByNameAndVersion(String name, String version);
 
-    List<Artifact> findByIsSyncedFalseOrLastSyncTimeIsNull();
+    // ETag inputs, read without loading the entity
+    @Query("SELECT a.rowVersion FROM Artifact a WHERE a.id = :id")
+    Optional<Long> findRowVersionById(@Param("id") Long id);
 
-    List<Artifact> findByNameOrderByCreatedAtDesc(String name);
+    // (id, row_version) of every version sharing the name of the given artifact; empty when the id does not exist
+    @Query("SELECT a.id AS id, a.rowVersion AS rowVersion "
+            + "FROM Artifact a WHERE a.name = (SELECT b.name FROM Artifact b WHERE b.id = :id) ORDER BY a.id")
+    List<HistoryVersion> findHistoryVersions(@Param("id") Long id);
 
-    List<Artifact> findByRepositoryUrlOrderByCreatedAtDesc(String repositoryUrl);
+    // Next chunk of the sync queue, keyset-paged on id.
+    // Range scan on idx_artifact_sync_pending (sync_pending, id).
+    @Query("SELECT a FROM Artifact a WHERE a.syncPending = true AND a.id > :afterId ORDER BY a.id")
+    List<Artifact> findSyncBatch(@Param("afterId") Long afterId, Limit limit);
+
+    // Size of the sync backlog, answered from the same index
+    long countBySyncPendingTrue();
+
+    // Single UPDATE for a whole chunk of synced ids instead of one UPDATE per entity.
+    // updated_at is assigned to itself so MySQL's ON UPDATE CURRENT_TIMESTAMP does not fire:
+    // being synced is not a change to the artifact.
+    // Only rows still at the row version that was sent are marked: an update committed while the
+    // batch was in flight leaves its row pending, so the new content is synced as well.
+    @Transactional
+    @Modifying
+    @Query("UPDATE Artifact a SET a.isSynced = true, a.lastSyncTime = :syncTime, a.updatedAt = a.updatedAt "
+            + "WHERE a.id IN :ids AND a.rowVersion = :rowVersion")
+    int markSynced(@Param("ids") Collection<Long> ids,
+                   @Param("rowVersion") long rowVersion,
+                   @Param("syncTime") LocalDateTime syncTime);
+
+    // All versions sharing the name of the given artifact, newest first; empty when the id does not exist
+    @Query("SELECT new com.ibmprojects.spring_boot_service.dto.artifact.ArtifactSummary("
+            + "a.id, a.name, a.version, a.type, a.filePath, a.sizeBytes, a.checksum, a.createdAt, a.updatedAt, "
+            + "a.repositoryUrl, a.branch, a.commitHash, a.commitAuthor, a.pipelineId, a.buildNumber, a.buildStatus, "
+            + "a.authorAvatarUrl, a.authorGithubUsername) "
+            + "FROM Artifact a WHERE a.name = (SELECT b.name FROM Artifact b WHERE b.id = :id) "
+            + "ORDER BY a.createdAt DESC")
+    List<ArtifactSummary> findHistorySummaries(@Param("id") Long id);
+
+    // Highest versions of a name within a VersionRange (see VersionRange.contains).
+    // Backward range scan on idx_artifact_name_version_sort (name, version_sort_key, version_prerelease_key);
+    // with Limit.of(1) it stops at the first row instead of reading the history.
+    // Odd keys are releases, even keys pre-releases.
+    @Query("SELECT a FROM Artifact a WHERE a.name = :name "
+            + "AND a.versionSortKey >= :lower AND a.versionSortKey <= :upper "
+            + "AND (a.versionSortKey > :lower OR :lowerPrerelease IS NULL OR a.versionPrereleaseKey >= :lowerPrerelease) "
+            + "AND (a.versionSortKey < :upper OR a.versionPrereleaseKey < :upperPrerelease) "
+            + "AND (:includePrerelease = true OR MOD(a.versionSortKey, 2) = 1) "
+            + "ORDER BY a.versionSortKey DESC, a.versionPrereleaseKey DESC")
+    List<Artifact> findHighestVersions(@Param("name") String name,
+                                       @Param("lower") long lower,
+                                       @Param("lowerPrerelease") String lowerPrerelease,
+                                       @Param("upper") long upper,
+                                       @Param("upperPrerelease") String upperPrerelease,
+                                       @Param("includePrerelease") boolean includePrerelease,
+                                       Limit limit);
 
     Optional<Artifact> findByCommitHash(String commitHash);
 
+    // filePath of every artifact whose content is in the binary store
+    @Query("SELECT DISTINCT a.filePath FROM Artifact a WHERE a.filePath LIKE 'sha256/%'")
+    List<String> findStoredContentPaths();
+
     long count();
 
-    List<Artifact> findByBuildStatus(String buildStatus);
-}
\ No newline at end of file
+    // Aggregations for the statistics rollup, computed in the database
+    @Query("SELECT a.type AS groupKey, COUNT(a) AS total FROM Artifact a GROUP BY a.type")
+    List<GroupCount> countGroupedByType();
+
+    @Query("SELECT a.buildStatus AS groupKey, COUNT(a) AS total FROM Artifact a "
+            + "WHERE a.buildStatus IS NOT NULL GROUP BY a.buildStatus")
+    List<GroupCount> countGroupedByBuildStatus();
+
+    @Query("SELECT a.repositoryUrl AS groupKey, COUNT(a) AS total FROM Artifact a "
+            + "WHERE a.repositoryUrl IS NOT NULL GROUP BY a.repositoryUrl")
+    List<GroupCount> countGroupedByRepositoryUrl();
+}
@@ -0,0 +1,22 @@
+package com.ibmprojects.spring_boot_service.repository;
+
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactCursor;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactFilter;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactSummary;
+import com.ibmprojects.spring_boot_service.model.Artifact;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+public interface ArtifactRepositoryCustom {
+
+    // Keyset page ordered by created_at DESC, id DESC, starting after the cursor (null = first page).
+    // Summary columns only: description and metadata are never read.
+    List<ArtifactSummary> findPage(ArtifactFilter filter, ArtifactCursor after, int limit);
+
+    // Streams every matching row through the consumer without holding them in the persistence context
+    void scan(ArtifactFilter filter, Consumer<Artifact> consumer);
+
+    // Exact COUNT(*) for the same filters
+    long count(ArtifactFilter filter);
+}
@@ -0,0 +1,121 @@
+package com.ibmprojects.spring_boot_service.repository;
+
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactCursor;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactFilter;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactSummary;
+import com.ibmprojects.spring_boot_service.model.Artifact;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+public class ArtifactRepositoryCustomImpl implements ArtifactRepositoryCustom {
+
+    // MySQL Connector/J only streams rows one by one when the fetch size is Integer.MIN_VALUE;
+    // any other value buffers the whole result set in the driver.
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<ArtifactSummary> findPage(ArtifactFilter filter, ArtifactCursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ArtifactSummary> query = cb.createQuery(ArtifactSummary.class);
+        Root<Artifact> root = query.from(Artifact.class);
+        query.select(cb.construct(ArtifactSummary.class,
+                root.get("id"), root.get("name"), root.get("version"), root.get("type"),
+                root.get("filePath"), root.get("sizeBytes"), root.get("checksum"),
+                root.get("createdAt"), root.get("updatedAt"),
+                root.get("repositoryUrl"), root.get("branch"), root.get("commitHash"), root.get("commitAuthor"),
+                root.get("pipelineId"), root.get("buildNumber"), root.get("buildStatus"),
+                root.get("authorAvatarUrl"), root.get("authorGithubUsername")));
+
+        List<Predicate> predicates = filterPredicates(cb, root, filter);
+        if (after != null) {
+            // (created_at, id) < (:createdAt, :id), spelled out so MySQL can range-scan idx_artifact_created_at
+            predicates.add(cb.or(
+                    cb.lessThan(root.get("createdAt"), after.getCreatedAt()),
+                    cb.and(
+                            cb.equal(root.get("createdAt"), after.getCreatedAt()),
+                            cb.lessThan(root.get("id"), after.getId()))));
+        }
+
+        query.where(predicates.toArray(Predicate[]::new))
+                .orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setMaxResults(limit)
+                .getResultList();
+    }
+
+    @Override
+    public void scan(ArtifactFilter filter, Consumer<Artifact> consumer) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Artifact> query = cb.createQuery(Artifact.class);
+        Root<Artifact> root = query.from(Artifact.class);
+
+        query.where(filterPredicates(cb, root, filter).toArray(Predicate[]::new))
+                .orderBy(cb.desc(root.get("createdAt")), cb.desc(root.get("id")));
+
+        try (Stream<Artifact> rows = entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, MYSQL_STREAMING_FETCH_SIZE)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()) {
+            rows.forEach(artifact -> {
+                consumer.accept(artifact);
+                // Keep the persistence context empty so memory stays flat regardless of table size
+                entityManager.detach(artifact);
+            });
+        }
+    }
+
+    @Override
+    public long count(ArtifactFilter filter) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Artifact> root = query.from(Artifact.class);
+
+        query.select(cb.count(root))
+                .where(filterPredicates(cb, root, filter).toArray(Predicate[]::new));
+
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private List<Predicate> filterPredicates(CriteriaBuilder cb, Root<Artifact> root, ArtifactFilter filter) {
+        List<Predicate> predicates = new ArrayList<>();
+        if (filter == null) {
+            return predicates;
+        }
+        if (filter.getName() != null) {
+            predicates.add(cb.equal(root.get("name"), filter.getName()));
+        }
+        if (filter.getType() != null) {
+            predicates.add(cb.equal(root.get("type"), filter.getType()));
+        }
+        if (filter.getBuildStatus() != null) {
+            predicates.add(cb.equal(root.get("buildStatus"), filter.getBuildStatus()));
+        }
+        if (filter.getRepositoryUrl() != null) {
+            predicates.add(cb.equal(root.get("repositoryUrl"), filter.getRepositoryUrl()));
+        }
+        if (filter.getBranch() != null) {
+            predicates.add(cb.equal(root.get("branch"), filter.getBranch()));
+        }
+        if (filter.getCreatedFrom() != null) {
+            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), filter.getCreatedFrom()));
+        }
+        if (filter.getCreatedTo() != null) {
+            predicates.add(cb.lessThan(root.get("createdAt"), filter.getCreatedTo()));
+        }
+        return predicates;
+    }
+}
@@ -0,0 +1,144 @@
+package com.ibmprojects.spring_boot_service.repository;
+
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactSearchQuery;
+import com.ibmprojects.spring_boot_service.model.Artifact;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Native MySQL search: MATCH ... AGAINST in boolean mode on ft_artifact_name_description,
+// exact filters on indexed columns. A search is two queries: facets() returns all three facets
+// (GROUP BY branches of one UNION ALL, whose type counts are also the total), then findPage()
+// reads the requested page. There is no separate COUNT query.
+@Repository
+@Timed("artifact.repository")
+@RequiredArgsConstructor
+public class ArtifactSearchRepository {
+
+    // InnoDB does not index words shorter than innodb_ft_min_token_size (default 3)
+    private static final int MIN_FULLTEXT_TERM_LENGTH = 3;
+
+    // Values returned for facets with many distinct values (repositories)
+    private static final int FACET_LIMIT = 20;
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public List<Artifact> findPage(ArtifactSearchQuery query, int offset, int limit) {
+        Criteria criteria = criteria(query);
+        String orderBy = criteria.fullText
+                ? " ORDER BY MATCH (name, description) AGAINST (:match IN BOOLEAN MODE) DESC, id DESC"
+                : " ORDER BY created_at DESC, id DESC";
+
+        Query nativeQuery = entityManager.createNativeQuery(
+                "SELECT * FROM artifact" + criteria.where + orderBy + " LIMIT :limit OFFSET :offset", Artifact.class);
+        criteria.params.getValues().forEach(nativeQuery::setParameter);
+        nativeQuery.setParameter("limit", limit);
+        nativeQuery.setParameter("offset", offset);
+
+        @SuppressWarnings("unchecked")
+        List<Artifact> rows = nativeQuery.getResultList();
+        return rows;
+    }
+
+    // Facet counts over the whole match set; the type facet doubles as the total because type is NOT NULL
+    public Map<String, Map<String, Long>> facets(ArtifactSearchQuery query) {
+        Criteria criteria = criteria(query);
+        String sql = "(SELECT 'type' AS facet, type AS value, COUNT(*) AS total FROM artifact" + criteria.where
+                + " GROUP BY type)"
+                + " UNION ALL (SELECT 'buildStatus', build_status, COUNT(*) FROM artifact" + criteria.where
+                + " AND build_status IS NOT NULL GROUP BY build_status)"
+                + " UNION ALL (SELECT 'repositoryUrl', repository_url, COUNT(*) FROM artifact" + criteria.where
+                + " AND repository_url IS NOT NULL GROUP BY repository_url ORDER BY COUNT(*) DESC LIMIT "
+                + FACET_LIMIT + ")";
+
+        Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+        facets.put("type", new LinkedHashMap<>());
+        facets.put("buildStatus", new LinkedHashMap<>());
+        facets.put("repositoryUrl", new LinkedHashMap<>());
+        jdbcTemplate.query(sql, criteria.params, rs -> {
+            facets.get(rs.getString("facet")).put(rs.getString("value"), rs.getLong("total"));
+        });
+        return facets;
+    }
+
+    private Criteria criteria(ArtifactSearchQuery query) {
+        List<String> conditions = new ArrayList<>();
+        MapSqlParameterSource params = new MapSqlParameterSource();
+        boolean fullText = false;
+
+        String q = query.getQ() == null ? "" : query.getQ().trim();
+        if (!q.isEmpty()) {
+            String match = booleanModeQuery(q);
+            if (!match.isEmpty()) {
+                conditions.add("MATCH (name, description) AGAINST (:match IN BOOLEAN MODE)");
+                params.addValue("match", match);
+                fullText = true;
+            } else {
+                // Only words too short for the full-text index: fall back to a name prefix (idx_artifact_name)
+                conditions.add("name LIKE :namePrefix");
+                params.addValue("namePrefix", escapeLike(q) + "%");
+            }
+        }
+        addEquals(conditions, params, "type", query.getType());
+        addEquals(conditions, params, "build_status", query.getBuildStatus());
+        addEquals(conditions, params, "repository_url", query.getRepositoryUrl());
+        addEquals(conditions, params, "meta_group_id", query.getGroupId());
+        addEquals(conditions, params, "meta_artifact_id", query.getArtifactId());
+        addEquals(conditions, params, "meta_license", query.getLicense());
+
+        // "WHERE TRUE" keeps the facet branches free to append "AND ..."
+        String where = " WHERE TRUE" + (conditions.isEmpty() ? "" : " AND " + String.join(" AND ", conditions));
+        return new Criteria(where, params, fullText);
+    }
+
+    // "spring boot-web" -> "+spring* +boot* +web*": every word must match, each as a prefix.
+    // Words below the index's minimum token length are dropped (InnoDB would ignore them anyway).
+    private static String booleanModeQuery(String q) {
+        StringBuilder match = new StringBuilder();
+        for (String term : q.split("[^\\p{L}\\p{N}_]+")) {
+            if (term.length() >= MIN_FULLTEXT_TERM_LENGTH) {
+                if (!match.isEmpty()) {
+                    match.append(' ');
+                }
+                match.append('+').append(term).append('*');
+            }
+        }
+        return match.toString();
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    private static void addEquals(List<String> conditions, MapSqlParameterSource params, String column, String value) {
+        if (value != null && !value.isBlank()) {
+            conditions.add(column + " = :" + column);
+            params.addValue(column, value);
+        }
+    }
+
+    private static final class Criteria {
+        private final String where;
+        private final MapSqlParameterSource params;
+        private final boolean fullText;
+
+        private Criteria(String where, MapSqlParameterSource params, boolean fullText) {
+            this.where = where;
+            this.params = params;
+            this.fullText = fullText;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.ibmprojects.spring_boot_service.repository;
+
+import com.ibmprojects.spring_boot_service.model.SyncOutboxEvent;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface SyncOutboxRepository extends JpaRepository<SyncOutboxEvent, Long> {
+
+    // Oldest due events first (primary key order): not parked, not waiting out a backoff and not
+    // claimed (or the claim expired). Events of an artifact another instance is delivering are left
+    // for later, so a late upsert cannot overtake that artifact's delete. Locked FOR UPDATE SKIP
+    // LOCKED: an instance claiming at the same time skips these rows instead of waiting for or taking
+    // them too. Call inside the transaction that claims the rows.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT e FROM SyncOutboxEvent e WHERE e.parkedAt IS NULL"
+            + " AND (e.nextAttemptAt IS NULL OR e.nextAttemptAt <= :now)"
+            + " AND (e.claimedUntil IS NULL OR e.claimedUntil <= :now)"
+            + " AND NOT EXISTS (SELECT c.id FROM SyncOutboxEvent c"
+            + " WHERE c.artifactId = e.artifactId AND c.claimedUntil > :now) ORDER BY e.id")
+    List<SyncOutboxEvent> findClaimable(@Param("now") LocalDateTime now, Limit limit);
+
+    @Modifying
+    @Query("UPDATE SyncOutboxEvent e SET e.claimedBy = :claimedBy, e.claimedUntil = :claimedUntil WHERE e.id IN :ids")
+    int claim(@Param("ids") Collection<Long> ids, @Param("claimedBy") String claimedBy,
+              @Param("claimedUntil") LocalDateTime claimedUntil);
+
+    long countByParkedAtIsNotNull();
+
+    long countByNextAttemptAtIsNotNullAndParkedAtIsNull();
+
+    // Failed attempts release the claim; rows whose claim expired and went to another instance are left alone
+    @Transactional
+    @Modifying
+    @Query("UPDATE SyncOutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error,"
+            + " e.nextAttemptAt = :nextAttemptAt, e.claimedBy = NULL, e.claimedUntil = NULL"
+            + " WHERE e.id IN :ids AND e.claimedBy = :claimedBy")
+    int recordFailedAttempt(@Param("ids") Collection<Long> ids, @Param("claimedBy") String claimedBy,
+                            @Param("error") String error, @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SyncOutboxEvent e SET e.attempts = e.attempts + 1, e.lastError = :error,"
+            + " e.parkedAt = :parkedAt, e.claimedBy = NULL, e.claimedUntil = NULL"
+            + " WHERE e.id IN :ids AND e.claimedBy = :claimedBy")
+    int park(@Param("ids") Collection<Long> ids, @Param("claimedBy") String claimedBy,
+             @Param("error") String error, @Param("parkedAt") LocalDateTime parkedAt);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE SyncOutboxEvent e SET e.attempts = 0, e.nextAttemptAt = NULL, e.parkedAt = NULL"
+            + " WHERE e.parkedAt IS NOT NULL")
+    int requeueParked();
+
+    // Earlier events of artifacts that were just delivered: each delivery sends the current state
+    // (or the delete), so older failed events for the same artifact have nothing left to deliver.
+    // attempts > 0 limits this to rows that were read before, i.e. committed before the delivery.
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM SyncOutboxEvent e WHERE e.artifactId IN :artifactIds AND e.attempts > 0")
+    int deleteSuperseded(@Param("artifactIds") Collection<Long> artifactIds);
+}
@@ -0,0 +1,8 @@
+package com.ibmprojects.spring_boot_service.repository.projection;
+
+// Row of a GROUP BY ... COUNT(*) projection
+public interface GroupCount {
+    String getGroupKey();
+
+    long getTotal();
+}
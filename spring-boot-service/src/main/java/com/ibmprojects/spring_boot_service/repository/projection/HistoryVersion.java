@@ -0,0 +1,8 @@
+package com.ibmprojects.spring_boot_service.repository.projection;
+
+// One version of an artifact name, used to derive the history ETag
+public interface HistoryVersion {
+    long getId();
+
+    long getRowVersion();
+}
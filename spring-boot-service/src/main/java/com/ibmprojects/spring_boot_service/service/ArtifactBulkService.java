@@ -0,0 +1,12 @@
+package com.ibmprojects.spring_boot_service.service;
+
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactCreateRequest;
+import com.ibmprojects.spring_boot_service.dto.artifact.BulkIngestResponse;
+
+import java.util.List;
+
+public interface ArtifactBulkService {
+
+    // Validates and inserts the requests in chunks; never fails the whole request for one bad item
+    BulkIngestResponse ingest(List<ArtifactCreateRequest> requests);
+}
@@ -0,0 +1,15 @@
+package com.ibmprojects.spring_boot_service.service;
+
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactResponse;
+import com.ibmprojects.spring_boot_service.storage.ArtifactContent;
+
+import java.io.InputStream;
+
+public interface ArtifactContentService {
+
+    // Streams the binary into the content store, then records its checksum, size and path on the artifact
+    ArtifactResponse uploadContent(Long id, InputStream content);
+
+    // Stored binary of the artifact with its checksum; not found when nothing was uploaded for it
+    ArtifactContent getContent(Long id);
+}
@@ -0,0 +1,15 @@
+package com.ibmprojects.spring_boot_service.service;
+
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactLookupResult;
+
+import java.util.List;
+import java.util.Map;
+
+public interface ArtifactLookupService {
+
+    // Served from the in-process index; at least one criterion is required
+    List<ArtifactLookupResult> lookup(String namePrefix, String type, Map<String, String> metadata, int limit);
+
+    // Rebuilds the index from the database and swaps it in
+    void rebuild();
+}
@@ -0,0 +1,10 @@
+package com.ibmprojects.spring_boot_service.service;
+
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactSearchQuery;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactSearchResponse;
+
+public interface ArtifactSearchService {
+
+    // page is zero-based
+    ArtifactSearchResponse search(ArtifactSearchQuery query, int page, int size);
+}
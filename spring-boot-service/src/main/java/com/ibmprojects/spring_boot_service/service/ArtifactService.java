@@ -1,11 +1,16 @@
 package com.ibmprojects.spring_boot_service.service;
 
 import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactCreateRequest;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactFilter;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactPageResponse;
 import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactResponse;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactSummary;
 import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactUpdateRequest;
+import com.ibmprojects.spring_boot_service.dto.artifact.RepositoryArtifactsResponse;
+import com.ibmprojects.spring_boot_service.storage.StoredBinary;
 
 import java.util.List;
-import java.util.Map;
+import java.util.function.Consumer;
 
 public interface ArtifactService {
 
@@ -13,19 +18,38 @@ public interface ArtifactService {
 
     ArtifactResponse getArtifactById(Long id);
 
-    List<ArtifactResponse> getAllArtifacts();
+    // Cheap validators for conditional GETs; both are answered without loading or mapping entities
+    String getArtifactETag(Long id);
 
-    ArtifactResponse updateArtifact(Long id, ArtifactUpdateRequest request);
+    // ETag of an already loaded artifact, in the same format as getArtifactETag(id)
+    String getArtifactETag(ArtifactResponse artifact);
 
-    void deleteArtifact(Long id);
+    String getHistoryETag(Long id);
+
+    ArtifactPageResponse getArtifacts(ArtifactFilter filter, String cursor, int limit);
+
+    void streamArtifacts(ArtifactFilter filter, Consumer<ArtifactResponse> consumer);
+
+    // expectedETag: the artifact must still be at that version (If-Match), else OptimisticLockingFailureException;
+    // null writes over whatever version is current
+    ArtifactResponse updateArtifact(Long id, ArtifactUpdateRequest request, String expectedETag);
+
+    void deleteArtifact(Long id, String expectedETag);
+
+    // Points the artifact at stored content: checksum, sizeBytes and filePath come from the store
+    ArtifactResponse attachContent(Long id, StoredBinary binary);
 
     ArtifactResponse findByNameAndVersion(String name, String version);
 
-    List<ArtifactResponse> getArtifactHistoryByName(Long id);
+    List<ArtifactSummary> getArtifactHistoryByName(Long id);
 
-    List<ArtifactResponse> getArtifactsByRepository(String repositoryUrl);
+    // Highest semver version of a name; pre-releases only when includePrerelease
+    ArtifactResponse getLatestVersion(String name, boolean includePrerelease);
 
-    ArtifactResponse getArtifactByCommitHash(String commitHash);
+    // Highest semver version of a name matching an npm-style range (see VersionRange)
+    ArtifactResponse resolveVersion(String name, String range, boolean includePrerelease);
 
-    Map<String, Object> getArtifactStatistics();
+    RepositoryArtifactsResponse getArtifactsByRepository(ArtifactFilter filter, String cursor, int limit);
+
+    ArtifactResponse getArtifactByCommitHash(String commitHash);
 }
@@ -0,0 +1,15 @@
+package com.ibmprojects.spring_boot_service.service;
+
+import java.util.Map;
+
+public interface ArtifactStatisticsService {
+
+    // Served from this instance's in-memory rollup, so instances may disagree until they recount;
+    // fresh = true recounts from the database first
+    Map<String, Object> getStatistics(boolean fresh);
+
+    void recount();
+
+    // ETag of a getStatistics result, derived from its content
+    String getStatisticsETag(Map<String, Object> statistics);
+}
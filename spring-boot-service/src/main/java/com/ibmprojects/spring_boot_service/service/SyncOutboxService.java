@@ -0,0 +1,10 @@
+package com.ibmprojects.spring_boot_service.service;
+
+public interface SyncOutboxService {
+
+    // Delivers pending outbox events to the Node.js service in order; returns the number delivered
+    int drain();
+
+    // Events that exhausted max-attempts go back to the queue; returns how many
+    int requeueParked();
+}
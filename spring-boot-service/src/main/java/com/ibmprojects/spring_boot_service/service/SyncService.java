@@ -4,7 +4,11 @@ import com.ibmprojects.spring_boot_service.model.Artifact;
 import java.util.List;
 
 public interface SyncService {
-    void syncArtifacts(List<Artifact> artifacts);
+    // Returns the artifacts the Node.js service accepted (already marked as synced)
+    List<Artifact> syncArtifacts(List<Artifact> artifacts);
+
+    // Removes artifacts from the vector DB; returns the ids that were removed
+    List<Long> deleteArtifacts(List<Long> artifactIds);
 
     void syncArtifact(Artifact artifact);
 
@@ -0,0 +1,151 @@
+package com.ibmprojects.spring_boot_service.service.impl;
+
+import com.ibmprojects.spring_boot_service.config.BulkIngestConfig;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactCreateRequest;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactResponse;
+import com.ibmprojects.spring_boot_service.dto.artifact.BulkIngestResponse;
+import com.ibmprojects.spring_boot_service.dto.artifact.BulkItemResult;
+import com.ibmprojects.spring_boot_service.event.ArtifactChangedEvent;
+import com.ibmprojects.spring_boot_service.mapper.ArtifactMapper;
+import com.ibmprojects.spring_boot_service.model.Artifact;
+import com.ibmprojects.spring_boot_service.repository.ArtifactBatchWriter;
+import com.ibmprojects.spring_boot_service.service.ArtifactBulkService;
+import io.micrometer.core.annotation.Timed;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+// Bulk ingestion for CI pipelines: one transaction and batched inserts per chunk instead of
+// one request and one transaction per artifact. Each created artifact still publishes an
+// ArtifactChangedEvent, so statistics, cache and the sync outbox see it like a single create.
+@Service
+@Timed("artifact.service")
+@Slf4j
+public class ArtifactBulkServiceImpl implements ArtifactBulkService {
+
+    private static final String DUPLICATE_IN_STORE = "An artifact with this name and version already exists";
+    private static final String DUPLICATE_IN_REQUEST = "Duplicate name and version within this request";
+
+    private final ArtifactBatchWriter batchWriter;
+    private final ArtifactMapper artifactMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Validator validator;
+    private final BulkIngestConfig bulkConfig;
+    private final TransactionTemplate transactionTemplate;
+
+    public ArtifactBulkServiceImpl(ArtifactBatchWriter batchWriter,
+                                   ArtifactMapper artifactMapper,
+                                   ApplicationEventPublisher eventPublisher,
+                                   Validator validator,
+                                   BulkIngestConfig bulkConfig,
+                                   PlatformTransactionManager transactionManager) {
+        this.batchWriter = batchWriter;
+        this.artifactMapper = artifactMapper;
+        this.eventPublisher = eventPublisher;
+        this.validator = validator;
+        this.bulkConfig = bulkConfig;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public BulkIngestResponse ingest(List<ArtifactCreateRequest> requests) {
+        BulkItemResult[] results = new BulkItemResult[requests.size()];
+
+        List<Integer> accepted = new ArrayList<>();
+        Set<List<String>> seen = new HashSet<>();
+        for (int i = 0; i < requests.size(); i++) {
+            ArtifactCreateRequest request = requests.get(i);
+            List<String> errors = validate(request);
+            if (!errors.isEmpty()) {
+                results[i] = BulkItemResult.invalid(i, request, errors);
+            } else if (!seen.add(key(request))) {
+                results[i] = BulkItemResult.conflict(i, request, DUPLICATE_IN_REQUEST);
+            } else {
+                accepted.add(i);
+            }
+        }
+
+        int chunkSize = Math.max(1, bulkConfig.getChunkSize());
+        for (int from = 0; from < accepted.size(); from += chunkSize) {
+            writeChunk(accepted.subList(from, Math.min(from + chunkSize, accepted.size())), requests, results);
+        }
+        return BulkIngestResponse.of(Arrays.asList(results));
+    }
+
+    private void writeChunk(List<Integer> indexes, List<ArtifactCreateRequest> requests, BulkItemResult[] results) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> insertChunk(indexes, requests, results));
+        } catch (DataIntegrityViolationException e) {
+            // Usually a concurrent writer inserted one of these between the pre-check and the batch;
+            // a value the schema rejects (e.g. too long) ends up here as well. The chunk was rolled
+            // back; redo it row by row so only the offending items fail.
+            log.warn("Bulk chunk of {} failed ({}), retrying row by row", indexes.size(), e.getMostSpecificCause().getMessage());
+            for (Integer index : indexes) {
+                try {
+                    transactionTemplate.executeWithoutResult(status -> insertChunk(List.of(index), requests, results));
+                } catch (DuplicateKeyException duplicate) {
+                    results[index] = BulkItemResult.conflict(index, requests.get(index), DUPLICATE_IN_STORE);
+                } catch (DataIntegrityViolationException rejected) {
+                    results[index] = BulkItemResult.invalid(index, requests.get(index),
+                            List.of(rejected.getMostSpecificCause().getMessage()));
+                }
+            }
+        }
+    }
+
+    private void insertChunk(List<Integer> indexes, List<ArtifactCreateRequest> requests, BulkItemResult[] results) {
+        List<List<String>> keys = new ArrayList<>(indexes.size());
+        for (Integer index : indexes) {
+            keys.add(key(requests.get(index)));
+        }
+        Set<List<String>> existing = batchWriter.findExistingNameVersions(keys);
+
+        List<Integer> inserted = new ArrayList<>(indexes.size());
+        List<Artifact> artifacts = new ArrayList<>(indexes.size());
+        for (Integer index : indexes) {
+            ArtifactCreateRequest request = requests.get(index);
+            if (existing.contains(key(request))) {
+                results[index] = BulkItemResult.conflict(index, request, DUPLICATE_IN_STORE);
+            } else {
+                inserted.add(index);
+                artifacts.add(artifactMapper.toEntity(request));
+            }
+        }
+        if (artifacts.isEmpty()) {
+            return;
+        }
+
+        batchWriter.insert(artifacts);
+        for (int i = 0; i < artifacts.size(); i++) {
+            ArtifactResponse response = artifactMapper.toResponse(artifacts.get(i));
+            eventPublisher.publishEvent(ArtifactChangedEvent.created(response));
+            results[inserted.get(i)] = BulkItemResult.created(inserted.get(i), response);
+        }
+    }
+
+    private List<String> validate(ArtifactCreateRequest request) {
+        Set<ConstraintViolation<ArtifactCreateRequest>> violations = validator.validate(request);
+        List<String> errors = new ArrayList<>(violations.size());
+        for (ConstraintViolation<ArtifactCreateRequest> violation : violations) {
+            errors.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        errors.sort(null);
+        return errors;
+    }
+
+    private static List<String> key(ArtifactCreateRequest request) {
+        return List.of(request.getName(), request.getVersion());
+    }
+}
@@ -0,0 +1,77 @@
+package com.ibmprojects.spring_boot_service.service.impl;
+
+import com.ibmprojects.spring_boot_service.config.ArtifactStorageConfig;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactResponse;
+import com.ibmprojects.spring_boot_service.repository.ArtifactRepository;
+import com.ibmprojects.spring_boot_service.service.ArtifactContentService;
+import com.ibmprojects.spring_boot_service.service.ArtifactService;
+import com.ibmprojects.spring_boot_service.storage.ArtifactBinaryStore;
+import com.ibmprojects.spring_boot_service.storage.ArtifactContent;
+import com.ibmprojects.spring_boot_service.storage.StoredBinary;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.util.HashSet;
+
+// Deliberately not @Transactional: the upload is streamed to disk before any database work, so no
+// connection is held while a client sends a large file. Only the final update is transactional.
+@Service
+@Timed("artifact.service")
+@RequiredArgsConstructor
+@Slf4j
+public class ArtifactContentServiceImpl implements ArtifactContentService {
+
+    private final ArtifactService artifactService;
+    private final ArtifactRepository artifactRepository;
+    private final ArtifactBinaryStore binaryStore;
+    private final ArtifactStorageConfig storageConfig;
+
+    @Override
+    public ArtifactResponse uploadContent(Long id, InputStream content) {
+        // Checked before anything is written, so unknown ids cannot fill the store
+        if (!artifactRepository.existsById(id)) {
+            throw new EntityNotFoundException("Artifact not found with id: " + id);
+        }
+        StoredBinary binary = binaryStore.store(content);
+        log.debug("Stored {} bytes for artifact {} as {} (deduplicated: {})",
+                binary.getSizeBytes(), id, binary.getChecksum(), binary.isDeduplicated());
+        try {
+            return artifactService.attachContent(id, binary);
+        } catch (RuntimeException e) {
+            binaryStore.discard(binary);
+            throw e;
+        }
+    }
+
+    // Content replaced by a newer upload, or of deleted artifacts, is not referenced anymore.
+    // The paths of all artifacts with content are read in one query, before the store is listed.
+    @Scheduled(fixedDelayString = "${artifact-storage.cleanup-interval:3600000}")
+    public void removeUnreferencedContent() {
+        try {
+            int removed = binaryStore.removeUnreferenced(
+                    new HashSet<>(artifactRepository.findStoredContentPaths()), storageConfig.getCleanupGracePeriod());
+            if (removed > 0) {
+                log.info("Removed {} unreferenced artifact binaries", removed);
+            }
+        } catch (Exception e) {
+            log.error("Artifact content cleanup failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public ArtifactContent getContent(Long id) {
+        ArtifactResponse artifact = artifactService.getArtifactById(id);
+        Path file = binaryStore.resolve(artifact.getFilePath(), artifact.getChecksum());
+        if (file == null) {
+            throw new EntityNotFoundException("No content uploaded for artifact with id: " + id);
+        }
+        return new ArtifactContent(new FileSystemResource(file), artifact.getChecksum());
+    }
+}
@@ -0,0 +1,117 @@
+package com.ibmprojects.spring_boot_service.service.impl;
+
+import com.ibmprojects.spring_boot_service.config.LookupIndexConfig;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactLookupResult;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactResponse;
+import com.ibmprojects.spring_boot_service.event.ArtifactChangedEvent;
+import com.ibmprojects.spring_boot_service.index.ArtifactLookupIndex;
+import com.ibmprojects.spring_boot_service.repository.ArtifactRepository;
+import com.ibmprojects.spring_boot_service.service.ArtifactLookupService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Owns the in-process lookup index: built from the database once the application is ready,
+// then kept current from committed ArtifactChangedEvents (the create/update/delete paths
+// of ArtifactServiceImpl and the bulk ingest).
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "lookup-index", name = "enabled", havingValue = "true")
+public class ArtifactLookupServiceImpl implements ArtifactLookupService {
+
+    private final ArtifactRepository artifactRepository;
+    private final LookupIndexConfig lookupIndexConfig;
+    private final TransactionTemplate readOnlyTransaction;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    // Written under this (swapped after a rebuild), read lock-free by lookups
+    private volatile ArtifactLookupIndex index;
+    // Guarded by this: non-null while a rebuild scans the table
+    private List<ArtifactChangedEvent> changedWhileRebuilding;
+
+    public ArtifactLookupServiceImpl(ArtifactRepository artifactRepository,
+                                     LookupIndexConfig lookupIndexConfig,
+                                     PlatformTransactionManager transactionManager) {
+        this.artifactRepository = artifactRepository;
+        this.lookupIndexConfig = lookupIndexConfig;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.index = new ArtifactLookupIndex(lookupIndexConfig.getMetadataKeys());
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("Building the lookup index failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public List<ArtifactLookupResult> lookup(String namePrefix, String type, Map<String, String> metadata, int limit) {
+        boolean hasPrefix = namePrefix != null && !namePrefix.isBlank();
+        boolean hasMetadata = metadata != null && !metadata.isEmpty();
+        if (!hasPrefix && type == null && !hasMetadata) {
+            throw new IllegalArgumentException("Provide at least one of prefix, type or meta");
+        }
+        int maxResults = lookupIndexConfig.getMaxResults();
+        int capped = limit <= 0 ? maxResults : Math.min(limit, maxResults);
+        return index.lookup(hasPrefix ? namePrefix.trim() : null, type, metadata, capped);
+    }
+
+    @Override
+    public void rebuild() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            synchronized (this) {
+                changedWhileRebuilding = new ArrayList<>();
+            }
+            long started = System.nanoTime();
+            ArtifactLookupIndex fresh = new ArtifactLookupIndex(lookupIndexConfig.getMetadataKeys());
+            readOnlyTransaction.executeWithoutResult(status -> artifactRepository.scan(null, artifact ->
+                    fresh.upsert(artifact.getId(), artifact.getName(), artifact.getVersion(),
+                            artifact.getType(), artifact.getMetadata())));
+
+            synchronized (this) {
+                // Writes committed during the scan may or may not be in it; replaying them in order is idempotent
+                changedWhileRebuilding.forEach(event -> apply(fresh, event));
+                changedWhileRebuilding = null;
+                index = fresh;
+            }
+            log.info("Lookup index built: {} artifacts in {} ms", fresh.size(), (System.nanoTime() - started) / 1_000_000);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public synchronized void onArtifactChanged(ArtifactChangedEvent event) {
+        apply(index, event);
+        if (changedWhileRebuilding != null) {
+            changedWhileRebuilding.add(event);
+        }
+    }
+
+    private static void apply(ArtifactLookupIndex target, ArtifactChangedEvent event) {
+        ArtifactResponse after = event.getAfter();
+        if (after != null) {
+            target.upsert(after.getId(), after.getName(), after.getVersion(), after.getType(), after.getMetadata());
+        } else {
+            target.remove(event.getBefore().getId());
+        }
+    }
+}
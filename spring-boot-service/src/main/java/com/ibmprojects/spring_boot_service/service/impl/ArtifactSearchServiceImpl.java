@@ -0,0 +1,50 @@
+package com.ibmprojects.spring_boot_service.service.impl;
+
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactSearchQuery;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactSearchResponse;
+import com.ibmprojects.spring_boot_service.mapper.ArtifactMapper;
+import com.ibmprojects.spring_boot_service.repository.ArtifactSearchRepository;
+import com.ibmprojects.spring_boot_service.service.ArtifactSearchService;
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+@Service
+@Timed("artifact.service")
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ArtifactSearchServiceImpl implements ArtifactSearchService {
+
+    static final int MAX_PAGE_SIZE = 100;
+
+    // Relevance order cannot be keyset-paged; cap OFFSET so deep pages cannot turn into scans
+    static final int MAX_RESULT_WINDOW = 10_000;
+
+    private final ArtifactSearchRepository searchRepository;
+    private final ArtifactMapper artifactMapper;
+
+    @Override
+    public ArtifactSearchResponse search(ArtifactSearchQuery query, int page, int size) {
+        int pageSize = size <= 0 ? 20 : Math.min(size, MAX_PAGE_SIZE);
+        if (page < 0 || (long) page * pageSize + pageSize > MAX_RESULT_WINDOW) {
+            throw new IllegalArgumentException(
+                    "Search results are limited to the first " + MAX_RESULT_WINDOW + " matches; refine the query");
+        }
+
+        Map<String, Map<String, Long>> facets = searchRepository.facets(query);
+
+        ArtifactSearchResponse response = new ArtifactSearchResponse();
+        response.setTotal(facets.get("type").values().stream().mapToLong(Long::longValue).sum());
+        response.setItems(response.getTotal() == 0
+                ? List.of()
+                : artifactMapper.toResponses(searchRepository.findPage(query, page * pageSize, pageSize)));
+        response.setPage(page);
+        response.setSize(pageSize);
+        response.setFacets(facets);
+        return response;
+    }
+}
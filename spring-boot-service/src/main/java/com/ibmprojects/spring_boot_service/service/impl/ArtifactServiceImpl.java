@@ -1,152 +1,251 @@
 package com.ibmprojects.spring_boot_service.service.impl;
 
+import com.ibmprojects.spring_boot_service.cache.ArtifactCache;
 import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactCreateRequest;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactCursor;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactFilter;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactPageResponse;
 import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactResponse;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactSummary;
 import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactUpdateRequest;
+import com.ibmprojects.spring_boot_service.dto.artifact.RepositoryArtifactsResponse;
+import com.ibmprojects.spring_boot_service.event.ArtifactChangedEvent;
+import com.ibmprojects.spring_boot_service.mapper.ArtifactMapper;
 import com.ibmprojects.spring_boot_service.model.Artifact;
 import com.ibmprojects.spring_boot_service.repository.ArtifactRepository;
+import com.ibmprojects.spring_boot_service.repository.projection.HistoryVersion;
 import com.ibmprojects.spring_boot_service.service.ArtifactService;
+import com.ibmprojects.spring_boot_service.storage.StoredBinary;
+import com.ibmprojects.spring_boot_service.version.VersionRange;
+import io.micrometer.core.annotation.Timed;
 import jakarta.persistence.EntityNotFoundException;
 
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.BeanUtils;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
-import java.util.HashMap;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.Optional;
+import java.util.function.Consumer;
 
 @Service
+@Timed("artifact.service")
 @RequiredArgsConstructor
 @Transactional
 public class ArtifactServiceImpl implements ArtifactService {
 
+    static final int DEFAULT_PAGE_SIZE = 50;
+    static final int MAX_PAGE_SIZE = 500;
+
     private final ArtifactRepository artifactRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ArtifactMapper artifactMapper;
+    private final ArtifactCache artifactCache;
 
     @Override
     public ArtifactResponse createArtifact(ArtifactCreateRequest request) {
-        Artifact artifact = new Artifact();
-        BeanUtils.copyProperties(request, artifact);
-        Artifact savedArtifact = artifactRepository.save(artifact);
-        ArtifactResponse response = new ArtifactResponse();
-        BeanUtils.copyProperties(savedArtifact, response);
+        Artifact savedArtifact = artifactRepository.save(artifactMapper.toEntity(request));
+        ArtifactResponse response = artifactMapper.toResponse(savedArtifact);
+        eventPublisher.publishEvent(ArtifactChangedEvent.created(response));
         return response;
     }
 
     @Override
     @Transactional(readOnly = true)
     public ArtifactResponse getArtifactById(Long id) {
-        Artifact artifact = artifactRepository.findById(id)
+        return artifactCache.getById(id, () -> artifactRepository.findById(id)
+                .map(artifactMapper::toResponse)
+                .orElseThrow(() -> new EntityNotFoundException("Artifact not found with id: " + id)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String getArtifactETag(Long id) {
+        // Single-column PK lookup; row_version changes on every update
+        Long rowVersion = artifactRepository.findRowVersionById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Artifact not found with id: " + id));
-        ArtifactResponse response = new ArtifactResponse();
-        BeanUtils.copyProperties(artifact, response);
-        return response;
+        return artifactETag(id, rowVersion);
+    }
+
+    @Override
+    // Pure formatting: must not open a transaction (and take a connection) of its own
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public String getArtifactETag(ArtifactResponse artifact) {
+        return artifactETag(artifact.getId(), artifact.getRowVersion());
+    }
+
+    private static String artifactETag(Long id, Long rowVersion) {
+        return id + "-" + rowVersion;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ArtifactResponse> getAllArtifacts() {
-        return artifactRepository.findAll().stream()
-                .map(artifact -> {
-                    ArtifactResponse response = new ArtifactResponse();
-                    BeanUtils.copyProperties(artifact, response);
-                    return response;
-                })
-                .collect(Collectors.toList());
+    public String getHistoryETag(Long id) {
+        List<HistoryVersion> versions = artifactRepository.findHistoryVersions(id);
+        if (versions.isEmpty()) {
+            throw new EntityNotFoundException("Artifact not found with id: " + id);
+        }
+        // Every (id, row_version) pair of the history: any added, removed or updated version changes it
+        StringBuilder pairs = new StringBuilder();
+        for (HistoryVersion version : versions) {
+            pairs.append(version.getId()).append(':').append(version.getRowVersion()).append(',');
+        }
+        return DigestUtils.md5DigestAsHex(pairs.toString().getBytes(StandardCharsets.UTF_8));
     }
 
     @Override
-    public ArtifactResponse updateArtifact(Long id, ArtifactUpdateRequest request) {
+    @Transactional(readOnly = true)
+    public ArtifactPageResponse getArtifacts(ArtifactFilter filter, String cursor, int limit) {
+        int pageSize = limit <= 0 ? DEFAULT_PAGE_SIZE : Math.min(limit, MAX_PAGE_SIZE);
+        ArtifactCursor after = cursor == null || cursor.isBlank() ? null : ArtifactCursor.decode(cursor);
+
+        // Fetch one extra row to know whether another page exists without a COUNT query
+        List<ArtifactSummary> rows = artifactRepository.findPage(filter, after, pageSize + 1);
+        boolean hasMore = rows.size() > pageSize;
+        List<ArtifactSummary> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            ArtifactSummary last = page.get(page.size() - 1);
+            nextCursor = new ArtifactCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+        return new ArtifactPageResponse(page, nextCursor, hasMore);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamArtifacts(ArtifactFilter filter, Consumer<ArtifactResponse> consumer) {
+        artifactRepository.scan(filter, artifact -> consumer.accept(artifactMapper.toResponse(artifact)));
+    }
+
+    @Override
+    public ArtifactResponse updateArtifact(Long id, ArtifactUpdateRequest request, String expectedETag) {
         Artifact existingArtifact = artifactRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Artifact not found with id: " + id));
+        checkExpectedVersion(existingArtifact, expectedETag);
+        ArtifactResponse before = artifactMapper.toResponse(existingArtifact);
 
-        BeanUtils.copyProperties(request, existingArtifact, "id", "createdAt", "updatedAt", "checksum");
+        artifactMapper.applyUpdate(request, existingArtifact);
+        // Content changed: the vector DB copy is stale until the outbox (or the scheduled sync) resends it
+        existingArtifact.setIsSynced(false);
 
-        Artifact updatedArtifact = artifactRepository.save(existingArtifact);
-        ArtifactResponse response = new ArtifactResponse();
-        BeanUtils.copyProperties(updatedArtifact, response);
+        // Flushed here so row_version is already incremented in the response
+        Artifact updatedArtifact = artifactRepository.saveAndFlush(existingArtifact);
+        ArtifactResponse response = artifactMapper.toResponse(updatedArtifact);
+        eventPublisher.publishEvent(ArtifactChangedEvent.updated(before, response));
         return response;
     }
 
     @Override
-    public void deleteArtifact(Long id) {
-        if (!artifactRepository.existsById(id)) {
-            throw new EntityNotFoundException("Artifact not found with id: " + id);
+    public void deleteArtifact(Long id, String expectedETag) {
+        Artifact artifact = artifactRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Artifact not found with id: " + id));
+        checkExpectedVersion(artifact, expectedETag);
+        ArtifactResponse before = artifactMapper.toResponse(artifact);
+
+        artifactRepository.delete(artifact);
+        eventPublisher.publishEvent(ArtifactChangedEvent.deleted(before));
+    }
+
+    // The If-Match check in the controller ran in its own transaction; a write committed since then
+    // has moved the row on
+    private static void checkExpectedVersion(Artifact artifact, String expectedETag) {
+        if (expectedETag != null && !expectedETag.equals(artifactETag(artifact.getId(), artifact.getRowVersion()))) {
+            throw new ObjectOptimisticLockingFailureException(Artifact.class, artifact.getId());
         }
-        artifactRepository.deleteById(id);
+    }
+
+    @Override
+    public ArtifactResponse attachContent(Long id, StoredBinary binary) {
+        Artifact artifact = artifactRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Artifact not found with id: " + id));
+        ArtifactResponse before = artifactMapper.toResponse(artifact);
+
+        artifact.setChecksum(binary.getChecksum());
+        artifact.setSizeBytes(binary.getSizeBytes());
+        artifact.setFilePath(binary.getPath());
+        artifact.setIsSynced(false);
+
+        ArtifactResponse response = artifactMapper.toResponse(artifactRepository.saveAndFlush(artifact));
+        eventPublisher.publishEvent(ArtifactChangedEvent.updated(before, response));
+        return response;
     }
 
     @Override
     @Transactional(readOnly = true)
     public ArtifactResponse findByNameAndVersion(String name, String version) {
-        Artifact artifact = artifactRepository.findByNameAndVersion(name, version)
+        return artifactCache.getByNameAndVersion(name, version, () -> artifactRepository.findByNameAndVersion(name, version)
+                .map(artifactMapper::toResponse)
                 .orElseThrow(() -> new EntityNotFoundException(
-                        String.format("Artifact not found with name: %s and version: %s", name, version)));
-        ArtifactResponse response = new ArtifactResponse();
-        BeanUtils.copyProperties(artifact, response);
-        return response;
+                        String.format("Artifact not found with name: %s and version: %s", name, version))));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ArtifactResponse> getArtifactHistoryByName(Long id) {
-        Artifact artifact = artifactRepository.findById(id)
-                .orElseThrow(() -> new EntityNotFoundException("Artifact not found with id: " + id));
-
-        List<Artifact> history = artifactRepository.findByNameOrderByCreatedAtDesc(artifact.getName());
+    public List<ArtifactSummary> getArtifactHistoryByName(Long id) {
+        // One query: the name is resolved by a subquery, and the artifact itself is always part of its history
+        List<ArtifactSummary> history = artifactRepository.findHistorySummaries(id);
+        if (history.isEmpty()) {
+            throw new EntityNotFoundException("Artifact not found with id: " + id);
+        }
+        return history;
+    }
 
-        return history.stream()
-                .map(a -> {
-                    ArtifactResponse response = new ArtifactResponse();
-                    BeanUtils.copyProperties(a, response);
-                    return response;
-                })
-                .collect(Collectors.toList());
+    @Override
+    @Transactional(readOnly = true)
+    public ArtifactResponse getLatestVersion(String name, boolean includePrerelease) {
+        return findHighestVersion(name, VersionRange.ANY, includePrerelease)
+                .orElseThrow(() -> new EntityNotFoundException("No semantic version found for artifact: " + name));
     }
 
     @Override
     @Transactional(readOnly = true)
-    public List<ArtifactResponse> getArtifactsByRepository(String repositoryUrl) {
-        List<Artifact> artifacts = artifactRepository.findByRepositoryUrlOrderByCreatedAtDesc(repositoryUrl);
-        return artifacts.stream()
-                .map(artifact -> {
-                    ArtifactResponse response = new ArtifactResponse();
-                    BeanUtils.copyProperties(artifact, response);
-                    return response;
-                })
-                .collect(Collectors.toList());
+    public ArtifactResponse resolveVersion(String name, String range, boolean includePrerelease) {
+        return findHighestVersion(name, VersionRange.parse(range), includePrerelease)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        String.format("No version of %s matches range: %s", name, range)));
+    }
+
+    private Optional<ArtifactResponse> findHighestVersion(String name, VersionRange range, boolean includePrerelease) {
+        if (range.isEmpty()) {
+            return Optional.empty();
+        }
+        return artifactRepository.findHighestVersions(name, range.getLower(), range.getLowerPrerelease(),
+                        range.getUpper(), range.getUpperPrerelease(), includePrerelease, Limit.of(1))
+                .stream()
+                .findFirst()
+                .map(artifactMapper::toResponse);
     }
 
     @Override
     @Transactional(readOnly = true)
-    public ArtifactResponse getArtifactByCommitHash(String commitHash) {
-        Artifact artifact = artifactRepository.findByCommitHash(commitHash)
-                .orElseThrow(() -> new EntityNotFoundException("Artifact not found with commit hash: " + commitHash));
-        ArtifactResponse response = new ArtifactResponse();
-        BeanUtils.copyProperties(artifact, response);
+    public RepositoryArtifactsResponse getArtifactsByRepository(ArtifactFilter filter, String cursor, int limit) {
+        ArtifactPageResponse page = getArtifacts(filter, cursor, limit);
+        RepositoryArtifactsResponse response = new RepositoryArtifactsResponse();
+        response.setRepositoryUrl(filter.getRepositoryUrl());
+        response.setArtifacts(page.getItems());
+        response.setNextCursor(page.getNextCursor());
+        response.setHasMore(page.isHasMore());
+
+        // Counted once, with the first page; later pages only walk the keyset.
+        // Range on idx_artifact_repo_created, then branch/build_status checked per row.
+        if (cursor == null || cursor.isBlank()) {
+            response.setTotalCount(artifactRepository.count(filter));
+        }
         return response;
     }
 
     @Override
     @Transactional(readOnly = true)
-    public Map<String, Object> getArtifactStatistics() {
-        Map<String, Object> stats = new HashMap<>();
-        stats.put("totalArtifacts", artifactRepository.count());
-        stats.put("successfulBuilds", artifactRepository.findByBuildStatus("SUCCESS").size());
-        stats.put("failedBuilds", artifactRepository.findByBuildStatus("FAILED").size());
-
-        List<Artifact> allArtifacts = artifactRepository.findAll();
-        Map<String, Long> byType = allArtifacts.stream()
-                .collect(Collectors.groupingBy(Artifact::getType, Collectors.counting()));
-        stats.put("artifactsByType", byType);
-
-        Map<String, Long> byRepository = allArtifacts.stream()
-                .filter(a -> a.getRepositoryUrl() != null)
-                .collect(Collectors.groupingBy(Artifact::getRepositoryUrl, Collectors.counting()));
-        stats.put("artifactsByRepository", byRepository);
-
-        return stats;
+    public ArtifactResponse getArtifactByCommitHash(String commitHash) {
+        return artifactCache.getByCommitHash(commitHash, () -> artifactRepository.findByCommitHash(commitHash)
+                .map(artifactMapper::toResponse)
+                .orElseThrow(() -> new EntityNotFoundException("Artifact not found with commit hash: " + commitHash)));
     }
 }
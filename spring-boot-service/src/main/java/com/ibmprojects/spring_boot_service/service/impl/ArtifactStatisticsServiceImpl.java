@@ -0,0 +1,162 @@
+package com.ibmprojects.spring_boot_service.service.impl;
+
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactResponse;
+import com.ibmprojects.spring_boot_service.event.ArtifactChangedEvent;
+import com.ibmprojects.spring_boot_service.repository.ArtifactRepository;
+import com.ibmprojects.spring_boot_service.repository.projection.GroupCount;
+import com.ibmprojects.spring_boot_service.service.ArtifactStatisticsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Dashboard statistics kept as in-memory counters.
+// The database is only scanned (with GROUP BY projections) at startup and on ?fresh=true;
+// every committed create/update/delete adjusts the counters incrementally.
+// The counters are per instance: each node only sees the writes it handled itself since its last
+// recount, so with several instances the numbers differ between nodes until they recount. Nothing
+// that needs an exact count may read them; use a COUNT query for that.
+@Service
+@Slf4j
+public class ArtifactStatisticsServiceImpl implements ArtifactStatisticsService {
+
+    private final ArtifactRepository artifactRepository;
+    private final TransactionTemplate readOnlyTransaction;
+
+    // Swapped as a whole on recount so readers never see a half-built rollup
+    private volatile Rollup rollup = new Rollup();
+
+    public ArtifactStatisticsServiceImpl(ArtifactRepository artifactRepository,
+                                         PlatformTransactionManager transactionManager) {
+        this.artifactRepository = artifactRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            recount();
+        } catch (Exception e) {
+            // Keep starting up; the next ?fresh=true request retries the recount
+            log.error("Initial statistics recount failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public Map<String, Object> getStatistics(boolean fresh) {
+        if (fresh) {
+            recount();
+        }
+        Rollup current = rollup;
+
+        Map<String, Object> stats = new HashMap<>();
+        stats.put("totalArtifacts", current.total.sum());
+        stats.put("successfulBuilds", current.count(current.byBuildStatus, "SUCCESS"));
+        stats.put("failedBuilds", current.count(current.byBuildStatus, "FAILED"));
+        stats.put("artifactsByType", Rollup.snapshot(current.byType));
+        stats.put("artifactsByBuildStatus", Rollup.snapshot(current.byBuildStatus));
+        stats.put("artifactsByRepository", Rollup.snapshot(current.byRepository));
+        return stats;
+    }
+
+    @Override
+    public void recount() {
+        // One read-only transaction so all projections see the same snapshot.
+        // Writes committed while the recount runs may be counted twice or missed;
+        // the next recount corrects that.
+        Rollup fresh = readOnlyTransaction.execute(status -> {
+            Rollup counted = new Rollup();
+            counted.total.add(artifactRepository.count());
+            counted.load(counted.byType, artifactRepository.countGroupedByType());
+            counted.load(counted.byBuildStatus, artifactRepository.countGroupedByBuildStatus());
+            counted.load(counted.byRepository, artifactRepository.countGroupedByRepositoryUrl());
+            return counted;
+        });
+        rollup = fresh;
+        log.info("Statistics recounted: {} artifacts", fresh.total.sum());
+    }
+
+    // A hash of the numbers themselves, so instances (and restarts) with the same counts send the
+    // same ETag and only a real difference in the body makes a client download it again
+    @Override
+    public String getStatisticsETag(Map<String, Object> statistics) {
+        return DigestUtils.md5DigestAsHex(sorted(statistics).toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Object sorted(Object value) {
+        if (!(value instanceof Map<?, ?> map)) {
+            return value;
+        }
+        Map<String, Object> sorted = new TreeMap<>();
+        ((Map<String, Object>) map).forEach((key, entry) -> sorted.put(key, sorted(entry)));
+        return sorted;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onArtifactChanged(ArtifactChangedEvent event) {
+        Rollup current = rollup;
+        if (event.getBefore() != null) {
+            current.apply(event.getBefore(), -1);
+        }
+        if (event.getAfter() != null) {
+            current.apply(event.getAfter(), 1);
+        }
+    }
+
+    private static final class Rollup {
+        private final LongAdder total = new LongAdder();
+        private final Map<String, LongAdder> byType = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> byBuildStatus = new ConcurrentHashMap<>();
+        private final Map<String, LongAdder> byRepository = new ConcurrentHashMap<>();
+
+        void apply(ArtifactResponse artifact, int delta) {
+            total.add(delta);
+            increment(byType, artifact.getType(), delta);
+            increment(byBuildStatus, artifact.getBuildStatus(), delta);
+            increment(byRepository, artifact.getRepositoryUrl(), delta);
+        }
+
+        void load(Map<String, LongAdder> counters, List<GroupCount> rows) {
+            for (GroupCount row : rows) {
+                increment(counters, row.getGroupKey(), row.getTotal());
+            }
+        }
+
+        long count(Map<String, LongAdder> counters, String key) {
+            LongAdder adder = counters.get(key);
+            return adder == null ? 0 : adder.sum();
+        }
+
+        private static void increment(Map<String, LongAdder> counters, String key, long delta) {
+            if (key != null) {
+                counters.computeIfAbsent(key, k -> new LongAdder()).add(delta);
+            }
+        }
+
+        private static Map<String, Long> snapshot(Map<String, LongAdder> counters) {
+            Map<String, Long> result = new HashMap<>();
+            counters.forEach((key, adder) -> {
+                long value = adder.sum();
+                if (value > 0) {
+                    result.put(key, value);
+                }
+            });
+            return result;
+        }
+    }
+}
@@ -0,0 +1,261 @@
+package com.ibmprojects.spring_boot_service.service.impl;
+
+import com.ibmprojects.spring_boot_service.config.SyncConfig;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactResponse;
+import com.ibmprojects.spring_boot_service.event.ArtifactChangedEvent;
+import com.ibmprojects.spring_boot_service.event.ArtifactChangedEvent.ChangeType;
+import com.ibmprojects.spring_boot_service.model.Artifact;
+import com.ibmprojects.spring_boot_service.model.SyncOutboxEvent;
+import com.ibmprojects.spring_boot_service.repository.ArtifactRepository;
+import com.ibmprojects.spring_boot_service.repository.SyncOutboxRepository;
+import com.ibmprojects.spring_boot_service.service.SyncOutboxService;
+import com.ibmprojects.spring_boot_service.service.SyncService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Transactional outbox for the vector DB sync.
+// Every artifact write inserts an outbox row in its own transaction; after commit the
+// dispatcher is woken up and delivers due rows in id order. A row is deleted only
+// once the Node.js service acknowledged it, so delivery is at-least-once.
+// Failed rows back off exponentially and are parked, never deleted, after max-attempts.
+// Deletes are propagated through /api/sync/delete.
+// Several instances drain the same table: each batch is claimed first (claimedBy/claimedUntil,
+// see findClaimable), so no two instances deliver the same rows while the claim holds.
+@Service
+@Slf4j
+@ConditionalOnProperty(prefix = "sync.outbox", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class SyncOutboxServiceImpl implements SyncOutboxService {
+
+    private final SyncOutboxRepository outboxRepository;
+    private final ArtifactRepository artifactRepository;
+    private final SyncService syncService;
+    private final SyncConfig syncConfig;
+    private final ThreadPoolTaskExecutor outboxExecutor;
+    private final TransactionTemplate claimTransaction;
+
+    // Written into the rows this instance claims
+    private final String instanceId = UUID.randomUUID().toString();
+
+    // Only one thread of this instance drains at a time so its events leave the outbox in order
+    private final ReentrantLock drainLock = new ReentrantLock();
+    private final AtomicBoolean wakeUpPending = new AtomicBoolean();
+
+    public SyncOutboxServiceImpl(SyncOutboxRepository outboxRepository,
+                                 ArtifactRepository artifactRepository,
+                                 SyncService syncService,
+                                 SyncConfig syncConfig,
+                                 @Qualifier("outboxExecutor") ThreadPoolTaskExecutor outboxExecutor,
+                                 PlatformTransactionManager transactionManager) {
+        this.outboxRepository = outboxRepository;
+        this.artifactRepository = artifactRepository;
+        this.syncService = syncService;
+        this.syncConfig = syncConfig;
+        this.outboxExecutor = outboxExecutor;
+        this.claimTransaction = new TransactionTemplate(transactionManager);
+    }
+
+    // Runs inside the transaction that published the event: the outbox row commits or rolls back with the write
+    @EventListener
+    public void record(ArtifactChangedEvent event) {
+        ArtifactResponse artifact = event.getAfter() != null ? event.getAfter() : event.getBefore();
+        outboxRepository.save(SyncOutboxEvent.of(artifact.getId(), event.getType()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onCommitted(ArtifactChangedEvent event) {
+        wakeUp();
+    }
+
+    @Scheduled(fixedDelayString = "${sync.outbox.poll-interval:1000}")
+    public void scheduledDrain() {
+        try {
+            drain();
+        } catch (Exception e) {
+            log.error("Outbox dispatch failed: {}", e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public int drain() {
+        int delivered = 0;
+        // A wake-up that arrives while another thread drains is picked up by that thread's next round
+        while (drainLock.tryLock()) {
+            try {
+                wakeUpPending.set(false);
+                delivered += drainBatches();
+            } finally {
+                drainLock.unlock();
+            }
+            if (!wakeUpPending.get()) {
+                break;
+            }
+        }
+        return delivered;
+    }
+
+    private int drainBatches() {
+        int delivered = 0;
+        while (true) {
+            List<SyncOutboxEvent> batch = claim();
+            if (batch.isEmpty()) {
+                return delivered;
+            }
+            int batchDelivered;
+            try {
+                batchDelivered = dispatch(batch);
+            } catch (RuntimeException e) {
+                // Counts as a failed attempt and releases the claim, instead of the rows sitting
+                // claimed until claimTimeout
+                recordFailures(batch);
+                throw e;
+            }
+            delivered += batchDelivered;
+            if (batchDelivered < batch.size()) {
+                // Failed events now wait out their backoff; the rest of the queue gets its turn on the
+                // next wake-up or poll instead of every batch being tried against a failing service now
+                return delivered;
+            }
+        }
+    }
+
+    // Short transaction of its own: the rows stay claimed (not locked) while the batch is delivered.
+    // A batch that is never released (this instance died or hung) becomes claimable again once
+    // claimTimeout has passed.
+    private List<SyncOutboxEvent> claim() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime claimedUntil = now.plus(syncConfig.getOutbox().getClaimTimeout());
+        return claimTransaction.execute(status -> {
+            List<SyncOutboxEvent> batch = outboxRepository.findClaimable(now, Limit.of(syncConfig.getBatchSize()));
+            if (!batch.isEmpty()) {
+                outboxRepository.claim(batch.stream().map(SyncOutboxEvent::getId).toList(), instanceId, claimedUntil);
+            }
+            return batch;
+        });
+    }
+
+    private int dispatch(List<SyncOutboxEvent> batch) {
+        // Several events for the same artifact collapse into one delivery; the latest one decides
+        // whether the artifact is upserted (with its current state) or removed
+        Map<Long, List<SyncOutboxEvent>> eventsByArtifact = new LinkedHashMap<>();
+        for (SyncOutboxEvent event : batch) {
+            eventsByArtifact.computeIfAbsent(event.getArtifactId(), id -> new ArrayList<>()).add(event);
+        }
+
+        List<Long> upsertIds = new ArrayList<>();
+        List<Long> deleteIds = new ArrayList<>();
+        eventsByArtifact.forEach((artifactId, events) -> {
+            if (events.get(events.size() - 1).getEventType() == ChangeType.DELETED) {
+                deleteIds.add(artifactId);
+            } else {
+                upsertIds.add(artifactId);
+            }
+        });
+
+        List<Artifact> upserts = upsertIds.isEmpty() ? List.of() : artifactRepository.findAllById(upsertIds);
+        Set<Long> found = new HashSet<>();
+        upserts.forEach(artifact -> found.add(artifact.getId()));
+        // Deleted after the event was written: nothing left to upsert, remove it instead
+        upsertIds.stream().filter(id -> !found.contains(id)).forEach(deleteIds::add);
+
+        Set<Long> acknowledged = new HashSet<>();
+        if (!upserts.isEmpty()) {
+            syncService.syncArtifacts(upserts).forEach(artifact -> acknowledged.add(artifact.getId()));
+        }
+        if (!deleteIds.isEmpty()) {
+            acknowledged.addAll(syncService.deleteArtifacts(deleteIds));
+        }
+
+        List<Long> done = new ArrayList<>();
+        List<Long> deliveredArtifacts = new ArrayList<>();
+        List<SyncOutboxEvent> failed = new ArrayList<>();
+        eventsByArtifact.forEach((artifactId, events) -> {
+            if (acknowledged.contains(artifactId)) {
+                events.forEach(event -> done.add(event.getId()));
+                deliveredArtifacts.add(artifactId);
+            } else {
+                failed.addAll(events);
+            }
+        });
+
+        if (!done.isEmpty()) {
+            outboxRepository.deleteAllByIdInBatch(done);
+            // Includes backing-off and parked events of these artifacts, which are now covered
+            outboxRepository.deleteSuperseded(deliveredArtifacts);
+        }
+        if (!failed.isEmpty()) {
+            recordFailures(failed);
+        }
+        return done.size();
+    }
+
+    @Override
+    public int requeueParked() {
+        int requeued = outboxRepository.requeueParked();
+        if (requeued > 0) {
+            log.info("Requeued {} parked outbox events", requeued);
+            wakeUp();
+        }
+        return requeued;
+    }
+
+    private void wakeUp() {
+        // Coalesce wake-ups: one queued drain picks up everything committed before it runs
+        if (wakeUpPending.compareAndSet(false, true)) {
+            outboxExecutor.execute(this::scheduledDrain);
+        }
+    }
+
+    private void recordFailures(List<SyncOutboxEvent> failed) {
+        SyncConfig.Outbox config = syncConfig.getOutbox();
+        LocalDateTime now = LocalDateTime.now();
+        // Grouped by attempt count: events failing for the same time share the same next attempt
+        Map<Integer, List<Long>> retryByAttempts = new LinkedHashMap<>();
+        List<Long> parked = new ArrayList<>();
+        for (SyncOutboxEvent event : failed) {
+            if (event.getAttempts() + 1 >= config.getMaxAttempts()) {
+                parked.add(event.getId());
+                log.error("Parking outbox event {} ({} artifact {}) after {} attempts",
+                        event.getId(), event.getEventType(), event.getArtifactId(), event.getAttempts() + 1);
+            } else {
+                retryByAttempts.computeIfAbsent(event.getAttempts(), attempts -> new ArrayList<>()).add(event.getId());
+            }
+        }
+        retryByAttempts.forEach((attempts, ids) -> outboxRepository.recordFailedAttempt(
+                ids, instanceId, "Not acknowledged by the Node.js service", now.plus(backoff(config, attempts))));
+        if (!parked.isEmpty()) {
+            // Kept so nothing is lost: upserts are also caught by the scheduled sync (isSynced stays false),
+            // but a DELETE exists nowhere else once the artifact row is gone
+            outboxRepository.park(parked, instanceId, "Not acknowledged after " + config.getMaxAttempts() + " attempts", now);
+        }
+        log.warn("{} outbox events not delivered; {} parked, the rest will be retried",
+                failed.size(), parked.size());
+    }
+
+    // initialBackoff * 2^attempts, capped at maxBackoff
+    static Duration backoff(SyncConfig.Outbox config, int attempts) {
+        Duration backoff = config.getInitialBackoff().multipliedBy(1L << Math.min(attempts, 30));
+        return backoff.compareTo(config.getMaxBackoff()) > 0 ? config.getMaxBackoff() : backoff;
+    }
+}
@@ -1,31 +1,44 @@
 package com.ibmprojects.spring_boot_service.service.impl;
 
+import com.ibmprojects.spring_boot_service.config.SyncConfig;
+import com.ibmprojects.spring_boot_service.metrics.SyncMetrics;
 import com.ibmprojects.spring_boot_service.model.Artifact;
 import com.ibmprojects.spring_boot_service.repository.ArtifactRepository;
 import com.ibmprojects.spring_boot_service.service.SyncService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.client.RestTemplate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
 
 @Service
 @Slf4j
 @RequiredArgsConstructor
-@Transactional
 public class SyncServiceImpl implements SyncService {
 
+    // Upper bound for the IN (...) list of one bulk UPDATE
+    private static final int MARK_SYNCED_CHUNK_SIZE = 1000;
+
     private final ArtifactRepository artifactRepository;
     private final RestTemplate restTemplate;
+    private final SyncConfig syncConfig;
+    private final SyncMetrics syncMetrics;
+    @Qualifier("syncExecutor")
+    private final ThreadPoolTaskExecutor syncExecutor;
 
     @Value("${nodejs.service.url}")
     private String nodejsServiceUrl;
@@ -49,8 +62,15 @@ public class SyncServiceImpl implements SyncService {
     // - (same flow repeats)
 
     @Override
-    public void syncArtifacts(List<Artifact> artifacts) {
+    public List<Artifact> syncArtifacts(List<Artifact> artifacts) {
         log.info("Starting sync for {} artifacts", artifacts.size());
+        long started = System.nanoTime();
+        List<Artifact> synced = doSyncArtifacts(artifacts);
+        syncMetrics.recordBatch(SyncMetrics.UPSERT, artifacts.size(), synced.size(), System.nanoTime() - started);
+        return synced;
+    }
+
+    private List<Artifact> doSyncArtifacts(List<Artifact> artifacts) {
         try {
 
             ResponseEntity<Object> response = restTemplate.postForEntity(
@@ -58,35 +78,16 @@ public class SyncServiceImpl implements SyncService {
                     artifacts,
                     Object.class);
 
-           
-            @SuppressWarnings("unchecked")
-            Map<String, Object> responseBody = (Map<String, Object>) response.getBody();
-            List<Artifact> successfullySynced = new ArrayList<>();
-            List<Artifact> failedToSync = new ArrayList<>();
-
-            if (responseBody != null && responseBody.containsKey("results")) {
-                @SuppressWarnings("unchecked")
-                List<Map<String, Object>> results = (List<Map<String, Object>>) responseBody.get("results");
-
-                for (int i = 0; i < artifacts.size() && i < results.size(); i++) {
-                    Map<String, Object> result = results.get(i);
-                    Artifact artifact = artifacts.get(i);
-
-                    Boolean success = (Boolean) result.get("success");
-                    if (Boolean.TRUE.equals(success)) {
-                        successfullySynced.add(artifact);
-                        log.debug("Artifact {} synced successfully", artifact.getId());
-                    } else {
-                        failedToSync.add(artifact);
-                        Object error = result.get("error");
-                        log.warn("Artifact {} failed to sync: {}", artifact.getId(), error);
-                    }
-                }
-            } else {
+            List<Map<String, Object>> results = parseResults(response);
+            if (results == null) {
                 log.error("Unexpected response format from Node.js service");
-                return;
+                return Collections.emptyList();
             }
 
+            List<Artifact> successfullySynced = new ArrayList<>();
+            List<Artifact> failedToSync = new ArrayList<>();
+            partitionResults(artifacts, results, successfullySynced, failedToSync);
+
             if (!successfullySynced.isEmpty()) {
                 markAsSynced(successfullySynced);
                 log.info("Successfully synced {}/{} artifacts",
@@ -97,46 +98,159 @@ public class SyncServiceImpl implements SyncService {
                 log.warn("{} artifacts failed to sync and will be retried",
                         failedToSync.size());
             }
+            return successfullySynced;
 
         } catch (Exception e) {
             log.error("Failed to sync artifacts: {}", e.getMessage(), e);
+            return Collections.emptyList();
+        }
+    }
+
+    @Override
+    public List<Long> deleteArtifacts(List<Long> artifactIds) {
+        log.info("Removing {} deleted artifacts from the vector DB", artifactIds.size());
+        long started = System.nanoTime();
+        List<Long> deleted = doDeleteArtifacts(artifactIds);
+        syncMetrics.recordBatch(SyncMetrics.DELETE, artifactIds.size(), deleted.size(), System.nanoTime() - started);
+        return deleted;
+    }
+
+    private List<Long> doDeleteArtifacts(List<Long> artifactIds) {
+        try {
+            ResponseEntity<Object> response = restTemplate.postForEntity(
+                    nodejsServiceUrl + "/api/sync/delete",
+                    Map.of("ids", artifactIds),
+                    Object.class);
+
+            List<Map<String, Object>> results = parseResults(response);
+            if (results == null) {
+                log.error("Unexpected response format from Node.js service");
+                return Collections.emptyList();
+            }
+
+            List<Long> deleted = new ArrayList<>();
+            for (int i = 0; i < artifactIds.size() && i < results.size(); i++) {
+                if (Boolean.TRUE.equals(results.get(i).get("success"))) {
+                    deleted.add(artifactIds.get(i));
+                }
+            }
+            return deleted;
+        } catch (Exception e) {
+            log.error("Failed to delete artifacts from the vector DB: {}", e.getMessage(), e);
+            return Collections.emptyList();
+        }
+    }
+
+    // Splits a batch by the per-artifact "success" flags; results are positional, in request order
+    static void partitionResults(List<Artifact> artifacts, List<Map<String, Object>> results,
+                                 List<Artifact> succeeded, List<Artifact> failed) {
+        for (int i = 0; i < artifacts.size() && i < results.size(); i++) {
+            Map<String, Object> result = results.get(i);
+            Artifact artifact = artifacts.get(i);
 
+            Boolean success = (Boolean) result.get("success");
+            if (Boolean.TRUE.equals(success)) {
+                succeeded.add(artifact);
+                log.debug("Artifact {} synced successfully", artifact.getId());
+            } else {
+                failed.add(artifact);
+                Object error = result.get("error");
+                log.warn("Artifact {} failed to sync: {}", artifact.getId(), error);
+            }
         }
     }
 
+    // "results" array of the Node.js sync response, or null if the body has none
+    @SuppressWarnings("unchecked")
+    static List<Map<String, Object>> parseResults(ResponseEntity<Object> response) {
+        if (!(response.getBody() instanceof Map<?, ?> responseBody)
+                || !(responseBody.get("results") instanceof List<?> results)) {
+            return null;
+        }
+        return (List<Map<String, Object>>) results;
+    }
+
     @Override
     public void syncArtifact(Artifact artifact) {
         syncArtifacts(Collections.singletonList(artifact));
     }
 
+    // One bulk UPDATE per row version and chunk; a batch rarely spans more than a few versions
     @Override
     public void markAsSynced(List<Artifact> artifacts) {
-        artifacts.forEach(this::markAsSynced);
-        artifactRepository.saveAll(artifacts);
-        log.info("Updated sync status for {} artifacts", artifacts.size());
+        LocalDateTime syncTime = LocalDateTime.now();
+        Map<Long, List<Long>> idsByRowVersion = new HashMap<>();
+        for (Artifact artifact : artifacts) {
+            long rowVersion = artifact.getRowVersion() != null ? artifact.getRowVersion() : 0L;
+            idsByRowVersion.computeIfAbsent(rowVersion, v -> new ArrayList<>()).add(artifact.getId());
+            artifact.setIsSynced(true);
+            artifact.setLastSyncTime(syncTime);
+        }
+
+        int updated = 0;
+        for (Map.Entry<Long, List<Long>> group : idsByRowVersion.entrySet()) {
+            List<Long> ids = group.getValue();
+            for (int from = 0; from < ids.size(); from += MARK_SYNCED_CHUNK_SIZE) {
+                int to = Math.min(from + MARK_SYNCED_CHUNK_SIZE, ids.size());
+                updated += artifactRepository.markSynced(ids.subList(from, to), group.getKey(), syncTime);
+            }
+        }
+        if (updated < artifacts.size()) {
+            log.info("Updated sync status for {} artifacts; {} changed while syncing and stay pending",
+                    updated, artifacts.size() - updated);
+        } else {
+            log.info("Updated sync status for {} artifacts", updated);
+        }
     }
 
     @Override
     public void markAsSynced(Artifact artifact) {
-        artifact.setIsSynced(true);
-        artifact.setLastSyncTime(LocalDateTime.now());
+        markAsSynced(Collections.singletonList(artifact));
     }
 
     // schedule for every 5 minutes to sync non-synced artifacts
+    // With the sync outbox enabled this is a reconciliation pass for upserts the outbox parked.
+    // Runs as a pipeline: the queue is read in keyset-ordered chunks of sync.batch-size and
+    // up to sync.max-in-flight chunks are posted concurrently. Each chunk commits its own
+    // isSynced flags, so a failed chunk is simply retried on the next run.
+    // No surrounding transaction: a DB connection is only held while a chunk is read or marked.
     @Scheduled(fixedRateString = "${sync.interval:300000}")
     public void scheduledSync() {
         log.info("Starting scheduled artifact sync...");
         try {
+            Semaphore inFlight = new Semaphore(syncConfig.getMaxInFlight());
+            List<CompletableFuture<Void>> batches = new ArrayList<>();
+            long dispatched = 0;
+            long afterId = 0;
+
+            while (true) {
+                List<Artifact> batch = artifactRepository.findSyncBatch(afterId, Limit.of(syncConfig.getBatchSize()));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                afterId = batch.get(batch.size() - 1).getId();
+                dispatched += batch.size();
 
-            List<Artifact> nonSyncedArtifacts = artifactRepository.findByIsSyncedFalseOrLastSyncTimeIsNull();
+                inFlight.acquire();
+                batches.add(CompletableFuture.runAsync(() -> {
+                    try {
+                        syncArtifacts(batch);
+                    } finally {
+                        inFlight.release();
+                    }
+                }, syncExecutor));
+            }
 
-            if (nonSyncedArtifacts.isEmpty()) {
+            if (batches.isEmpty()) {
                 log.info("No artifacts to sync");
                 return;
             }
 
-            syncArtifacts(nonSyncedArtifacts);
-            log.info("Scheduled sync completed successfully");
+            CompletableFuture.allOf(batches.toArray(CompletableFuture[]::new)).join();
+            log.info("Scheduled sync completed: {} artifacts in {} batches", dispatched, batches.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Scheduled sync interrupted");
         } catch (Exception e) {
             log.error("Scheduled sync failed: {}", e.getMessage(), e);
         }
@@ -0,0 +1,227 @@
+package com.ibmprojects.spring_boot_service.storage;
+
+import com.ibmprojects.spring_boot_service.config.ArtifactStorageConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+// Local content-addressed store for artifact binaries: sha256/ab/cd/<sha256 hex>.
+// An upload is copied from the request channel to a temp file through one direct buffer, and
+// the SHA-256 and size are taken from that same buffer, so the content is read exactly once and
+// never held in memory. The temp file is then renamed to its content address, or dropped when
+// that content is already stored. A file's modification time is when it was last stored, which
+// is what removeUnreferenced goes by.
+@Component
+@Slf4j
+public class ArtifactBinaryStore {
+
+    private static final String ALGORITHM = "SHA-256";
+    private static final String PREFIX = "sha256";
+    private static final Pattern CHECKSUM = Pattern.compile("[0-9a-f]{64}");
+
+    private final Path root;
+    private final Path content;
+    private final Path staging;
+    private final int bufferSize;
+    private final long maxSize;
+    // Direct buffers are costly to allocate and only freed by GC, so they are reused across uploads;
+    // the pool grows to the peak number of concurrent uploads
+    private final Queue<ByteBuffer> buffers = new ConcurrentLinkedQueue<>();
+
+    private final Counter stored;
+    private final Counter deduplicated;
+    private final DistributionSummary uploadSize;
+
+    public ArtifactBinaryStore(ArtifactStorageConfig config, MeterRegistry registry) throws IOException {
+        this.root = config.getRoot().toAbsolutePath().normalize();
+        this.content = root.resolve(PREFIX);
+        this.staging = root.resolve("tmp");
+        this.bufferSize = Math.toIntExact(config.getBufferSize().toBytes());
+        this.maxSize = config.getMaxSize().toBytes();
+        Files.createDirectories(staging);
+
+        this.stored = Counter.builder("artifact.storage.uploads")
+                .description("Artifact binary uploads, by whether the content was new")
+                .tag("result", "stored")
+                .register(registry);
+        this.deduplicated = Counter.builder("artifact.storage.uploads")
+                .description("Artifact binary uploads, by whether the content was new")
+                .tag("result", "deduplicated")
+                .register(registry);
+        this.uploadSize = DistributionSummary.builder("artifact.storage.upload.size")
+                .baseUnit("bytes")
+                .register(registry);
+        log.info("Artifact binaries are stored in {}", root);
+    }
+
+    public StoredBinary store(InputStream content) {
+        MessageDigest digest = newDigest();
+        ByteBuffer buffer = acquireBuffer();
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(staging, "upload-", ".part");
+            long size = 0;
+            try (ReadableByteChannel in = Channels.newChannel(content);
+                 FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                while (in.read(buffer) != -1) {
+                    buffer.flip();
+                    size += buffer.remaining();
+                    if (size > maxSize) {
+                        throw new MaxUploadSizeExceededException(maxSize);
+                    }
+                    // Digest a view of the filled region so the buffer itself is still unread for the write
+                    digest.update(buffer.duplicate());
+                    while (buffer.hasRemaining()) {
+                        out.write(buffer);
+                    }
+                    buffer.clear();
+                }
+                out.force(false);
+            }
+
+            String checksum = HexFormat.of().formatHex(digest.digest());
+            String path = address(checksum);
+            boolean existed = moveIntoPlace(temp, root.resolve(path));
+            temp = null;
+
+            uploadSize.record(size);
+            (existed ? deduplicated : stored).increment();
+            return new StoredBinary(checksum, size, path, existed);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store artifact content", e);
+        } finally {
+            releaseBuffer(buffer);
+            if (temp != null) {
+                deleteQuietly(temp);
+            }
+        }
+    }
+
+    // Absolute path of stored content, or null unless path is exactly the address of checksum
+    // (filePath may also be a client-supplied location from before uploads existed, or point
+    // anywhere else under the root, e.g. into tmp/)
+    public Path resolve(String path, String checksum) {
+        if (checksum == null || !CHECKSUM.matcher(checksum).matches() || !address(checksum).equals(path)) {
+            return null;
+        }
+        Path file = root.resolve(path);
+        return Files.isRegularFile(file) ? file : null;
+    }
+
+    // Removes the content of an upload that could not be attached, unless it was already stored before
+    public void discard(StoredBinary binary) {
+        if (!binary.isDeduplicated()) {
+            deleteQuietly(root.resolve(binary.getPath()));
+        }
+    }
+
+    // Deletes stored content whose path is not in referenced and that was last stored before
+    // now - gracePeriod. Returns the number of files removed.
+    public int removeUnreferenced(Set<String> referenced, Duration gracePeriod) {
+        if (!Files.isDirectory(content)) {
+            return 0;
+        }
+        FileTime storedBefore = FileTime.from(Instant.now().minus(gracePeriod));
+        int removed = 0;
+        try (Stream<Path> files = Files.walk(content)) {
+            for (Iterator<Path> it = files.filter(Files::isRegularFile).iterator(); it.hasNext(); ) {
+                Path file = it.next();
+                String path = root.relativize(file).toString().replace(File.separatorChar, '/');
+                if (!referenced.contains(path) && Files.getLastModifiedTime(file).compareTo(storedBefore) < 0) {
+                    Files.deleteIfExists(file);
+                    removed++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to clean up artifact content", e);
+        }
+        return removed;
+    }
+
+    private static String address(String checksum) {
+        return PREFIX + "/" + checksum.substring(0, 2) + "/" + checksum.substring(2, 4) + "/" + checksum;
+    }
+
+    // Returns true when the content was already present and the temp file was discarded
+    private boolean moveIntoPlace(Path temp, Path target) throws IOException {
+        if (Files.exists(target)) {
+            try {
+                // Counts as stored now, so the cleanup grace period starts over for this upload
+                Files.setLastModifiedTime(target, FileTime.from(Instant.now()));
+                Files.delete(temp);
+                return true;
+            } catch (NoSuchFileException e) {
+                // Removed by the cleanup in the meantime; store this copy instead
+            }
+        }
+        Files.createDirectories(target.getParent());
+        try {
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (FileAlreadyExistsException | AtomicMoveNotSupportedException e) {
+            // A concurrent upload of the same content won the race; its copy is identical
+            if (!Files.exists(target)) {
+                throw e;
+            }
+            Files.delete(temp);
+            return true;
+        }
+        return false;
+    }
+
+    private ByteBuffer acquireBuffer() {
+        ByteBuffer buffer = buffers.poll();
+        return buffer != null ? buffer : ByteBuffer.allocateDirect(bufferSize);
+    }
+
+    private void releaseBuffer(ByteBuffer buffer) {
+        buffer.clear();
+        buffers.offer(buffer);
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete partial upload {}", file, e);
+        }
+    }
+}
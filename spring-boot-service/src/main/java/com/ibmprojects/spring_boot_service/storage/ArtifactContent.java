@@ -0,0 +1,12 @@
+package com.ibmprojects.spring_boot_service.storage;
+
+import lombok.Value;
+import org.springframework.core.io.Resource;
+
+// Stored binary of one artifact, with the checksum it is addressed by
+@Value
+public class ArtifactContent {
+
+    Resource resource;
+    String checksum;
+}
@@ -0,0 +1,15 @@
+package com.ibmprojects.spring_boot_service.storage;
+
+import lombok.Value;
+
+// Result of one upload. path is relative to the store root and derived from the checksum,
+// so identical content always ends up at the same path.
+@Value
+public class StoredBinary {
+
+    String checksum;
+    long sizeBytes;
+    String path;
+    // true when the content was already in the store and the upload was discarded
+    boolean deduplicated;
+}
@@ -0,0 +1,81 @@
+package com.ibmprojects.spring_boot_service.version;
+
+import lombok.Value;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// Semver-like artifact version ("1.2.3", "v2.0", "1.0.0-rc.1", "3.1-SNAPSHOT", "1.2.3+build.5").
+// sortKey() packs the version into a long that orders like the version itself:
+//   major (20 bits) | minor (20 bits) | patch (20 bits) | release flag (1 bit)
+// The release flag is 0 for pre-releases so "1.2.0-rc.1" sorts below "1.2.0". Pre-releases of the
+// same version share that key and are ordered by prereleaseSortKey(), stored next to it.
+@Value
+public class SemanticVersion {
+
+    static final long MAX_COMPONENT = (1L << 20) - 1;
+    static final char PRERELEASE_SEPARATOR = '!';
+
+    private static final Pattern SEMVER = Pattern.compile(
+            "^[vV]?(\\d{1,7})(?:\\.(\\d{1,7}))?(?:\\.(\\d{1,7}))?(?:-([0-9A-Za-z.-]+))?(?:\\+[0-9A-Za-z.-]+)?$");
+
+    long major;
+    long minor;
+    long patch;
+    // null for releases
+    String prerelease;
+
+    // null when the version is not semver-like or a component does not fit in 20 bits
+    public static SemanticVersion parse(String version) {
+        if (version == null) {
+            return null;
+        }
+        Matcher matcher = SEMVER.matcher(version.trim());
+        if (!matcher.matches()) {
+            return null;
+        }
+        long major = Long.parseLong(matcher.group(1));
+        long minor = matcher.group(2) == null ? 0 : Long.parseLong(matcher.group(2));
+        long patch = matcher.group(3) == null ? 0 : Long.parseLong(matcher.group(3));
+        if (major > MAX_COMPONENT || minor > MAX_COMPONENT || patch > MAX_COMPONENT) {
+            return null;
+        }
+        return new SemanticVersion(major, minor, patch, matcher.group(4));
+    }
+
+    public boolean isPrerelease() {
+        return prerelease != null;
+    }
+
+    public long sortKey() {
+        return sortKey(major, minor, patch, !isPrerelease());
+    }
+
+    // The pre-release label rewritten so that binary string order is SemVer precedence (§11):
+    // identifiers are compared left to right, numeric ones by value and below alphanumeric ones,
+    // and a label that is a prefix of another sorts first. Each identifier becomes "0" + its digit
+    // count (2 digits) + the number without leading zeros, or "1" + the identifier as is; they are
+    // joined with '!', which sorts below every identifier character. null for releases.
+    public String prereleaseSortKey() {
+        if (prerelease == null) {
+            return null;
+        }
+        StringBuilder key = new StringBuilder();
+        for (String identifier : prerelease.split("\\.", -1)) {
+            if (!key.isEmpty()) {
+                key.append(PRERELEASE_SEPARATOR);
+            }
+            if (!identifier.isEmpty() && identifier.chars().allMatch(Character::isDigit)) {
+                String number = identifier.replaceFirst("^0+(?=.)", "");
+                key.append('0').append(String.format("%02d", Math.min(number.length(), 99))).append(number);
+            } else {
+                key.append('1').append(identifier);
+            }
+        }
+        return key.toString();
+    }
+
+    static long sortKey(long major, long minor, long patch, boolean release) {
+        return (major << 41) | (minor << 21) | (patch << 1) | (release ? 1 : 0);
+    }
+}
@@ -0,0 +1,262 @@
+package com.ibmprojects.spring_boot_service.version;
+
+import lombok.Value;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+// A version range as a half-open interval of SemanticVersion sort keys [lower, upper).
+// Bounds given with a pre-release are refined by pre-release sort key: a version whose key equals
+// lower is only in the range from lowerPrerelease on, and one whose key equals upper is in the range
+// below upperPrerelease (nothing at upper when it is null).
+// Supported syntax (npm style):
+//   ^1.2.3  ^1.2  ^0.2.3      compatible: same major (same minor/patch below 1.0.0)
+//   ~1.2.3  ~1.2  ~1          same minor (same major for ~1)
+//   1.2.x  1.x  1.2  1  *     partial / wildcard
+//   1.2.3  =1.2.3             exact
+//   >=1.2.0 <2.0.0  >= 1.2.0   comparators (>, >=, <, <=), space-separated and combined with AND;
+//                              partial operands as in npm: >1.2 is >=1.3.0, <=1.2 is <1.3.0
+//   1.2.3 - 2.3  1.2 - 2       hyphen range: inclusive, a partial upper end covers all it matches
+// ^* ~* ~x are the same as *. Unions (1.x || 3.x) are not supported: a range is one interval.
+@Value
+public class VersionRange {
+
+    public static final VersionRange ANY = new VersionRange(0, null, Long.MAX_VALUE, null);
+    private static final VersionRange NONE = new VersionRange(0, null, 0, null);
+
+    private static final Pattern PARTIAL = Pattern.compile(
+            "^[vV]?(\\d+|[xX*])(?:\\.(\\d+|[xX*]))?(?:\\.(\\d+|[xX*]))?$");
+    private static final Pattern COMPARATOR = Pattern.compile("^(>=|<=|>|<|=)?\\s*(.+)$");
+    // An operator written apart from its version, as in ">= 1.2.0"
+    private static final Pattern OPERATOR = Pattern.compile("^(>=|<=|>|<|=|\\^|~)$");
+    private static final Pattern HYPHEN = Pattern.compile("\\s+-\\s+");
+
+    long lower;
+    String lowerPrerelease;
+    long upper;
+    String upperPrerelease;
+
+    private VersionRange(long lower, long upper) {
+        this(lower, null, upper, null);
+    }
+
+    private VersionRange(long lower, String lowerPrerelease, long upper, String upperPrerelease) {
+        this.lower = lower;
+        this.lowerPrerelease = lowerPrerelease;
+        this.upper = upper;
+        this.upperPrerelease = upperPrerelease;
+    }
+
+    public boolean isEmpty() {
+        return compare(lower, lowerPrerelease, upper, upperPrerelease) >= 0;
+    }
+
+    // Same test as ArtifactRepository.findHighestVersions
+    public boolean contains(SemanticVersion version) {
+        long key = version.sortKey();
+        String prerelease = version.prereleaseSortKey();
+        return compare(key, prerelease, lower, lowerPrerelease) >= 0
+                && compare(key, prerelease, upper, upperPrerelease) < 0;
+    }
+
+    // Orders (key, pre-release sort key) pairs; a missing pre-release key is the lowest of its key
+    private static int compare(long key, String prerelease, long otherKey, String otherPrerelease) {
+        if (key != otherKey) {
+            return Long.compare(key, otherKey);
+        }
+        if (prerelease == null || otherPrerelease == null) {
+            return prerelease == null ? (otherPrerelease == null ? 0 : -1) : 1;
+        }
+        return prerelease.compareTo(otherPrerelease);
+    }
+
+    private VersionRange intersect(VersionRange other) {
+        boolean thisLower = compare(lower, lowerPrerelease, other.lower, other.lowerPrerelease) >= 0;
+        boolean thisUpper = compare(upper, upperPrerelease, other.upper, other.upperPrerelease) <= 0;
+        return new VersionRange(
+                thisLower ? lower : other.lower, thisLower ? lowerPrerelease : other.lowerPrerelease,
+                thisUpper ? upper : other.upper, thisUpper ? upperPrerelease : other.upperPrerelease);
+    }
+
+    public static VersionRange parse(String range) {
+        if (range == null || range.isBlank()) {
+            return ANY;
+        }
+        String trimmed = range.trim();
+        if (trimmed.contains("||")) {
+            throw new IllegalArgumentException("Version range unions (||) are not supported: " + trimmed);
+        }
+        String[] hyphen = HYPHEN.split(trimmed);
+        if (hyphen.length == 2) {
+            return hyphenRange(hyphen[0], hyphen[1]);
+        }
+        if (hyphen.length > 2) {
+            throw invalid(trimmed);
+        }
+
+        VersionRange result = ANY;
+        String[] parts = trimmed.split("\\s+");
+        for (int i = 0; i < parts.length; i++) {
+            String part = parts[i];
+            if (OPERATOR.matcher(part).matches()) {
+                if (i + 1 == parts.length) {
+                    throw invalid(part);
+                }
+                part += parts[++i];
+            }
+            result = result.intersect(parseSingle(part));
+        }
+        return result;
+    }
+
+    // "A - B" is >=A <=B, except that a partial B includes everything it matches: 1.2 - 2.3 is <2.4.0
+    private static VersionRange hyphenRange(String from, String to) {
+        if (from.contains(" ") || to.contains(" ") || !isPlainVersion(from) || !isPlainVersion(to)) {
+            throw invalid(from + " - " + to);
+        }
+        VersionRange lower = parseSingle(from);
+        VersionRange upper = parseSingle(to);
+        return new VersionRange(lower.lower, lower.lowerPrerelease, upper.upper, upper.upperPrerelease);
+    }
+
+    private static boolean isPlainVersion(String part) {
+        return PARTIAL.matcher(part).matches() || SemanticVersion.parse(part) != null;
+    }
+
+    private static VersionRange parseSingle(String part) {
+        if (part.startsWith("^")) {
+            long[] v = partial(part.substring(1), part);
+            int given = (int) v[3];
+            if (given == 0) {
+                return ANY;
+            }
+            long lower = SemanticVersion.sortKey(v[0], v[1], v[2], true);
+            if (v[0] > 0 || given == 1) {
+                return new VersionRange(lower, start(v[0] + 1, 0, 0));
+            }
+            if (v[1] > 0 || given == 2) {
+                return new VersionRange(lower, start(0, v[1] + 1, 0));
+            }
+            return new VersionRange(lower, start(0, 0, v[2] + 1));
+        }
+        if (part.startsWith("~")) {
+            long[] v = partial(part.substring(1), part);
+            if (v[3] == 0) {
+                return ANY;
+            }
+            long lower = SemanticVersion.sortKey(v[0], v[1], v[2], true);
+            return v[3] == 1
+                    ? new VersionRange(lower, start(v[0] + 1, 0, 0))
+                    : new VersionRange(lower, start(v[0], v[1] + 1, 0));
+        }
+
+        Matcher comparator = COMPARATOR.matcher(part);
+        if (!comparator.matches()) {
+            throw invalid(part);
+        }
+        String operator = comparator.group(1) == null ? "=" : comparator.group(1);
+        String operand = comparator.group(2);
+
+        if (!operator.equals("=")) {
+            if (PARTIAL.matcher(operand).matches()) {
+                long[] v = partial(operand, part);
+                if (v[3] < 3) {
+                    return partialComparator(operator, v);
+                }
+            }
+            SemanticVersion version = SemanticVersion.parse(operand);
+            if (version == null) {
+                throw invalid(part);
+            }
+            long key = version.sortKey();
+            String prerelease = version.prereleaseSortKey();
+            if (prerelease != null) {
+                // Between the pre-releases of one version; "p!" is the lowest key above "p"
+                return switch (operator) {
+                    case ">=" -> new VersionRange(key, prerelease, Long.MAX_VALUE, null);
+                    case ">" -> new VersionRange(key, prerelease + SemanticVersion.PRERELEASE_SEPARATOR, Long.MAX_VALUE, null);
+                    case "<" -> new VersionRange(0, null, key, prerelease);
+                    default -> new VersionRange(0, null, key, prerelease + SemanticVersion.PRERELEASE_SEPARATOR);
+                };
+            }
+            return switch (operator) {
+                case ">=" -> new VersionRange(key, Long.MAX_VALUE);
+                case ">" -> new VersionRange(key + 1, Long.MAX_VALUE);
+                case "<" -> new VersionRange(0, key);
+                default -> new VersionRange(0, key + 1);
+            };
+        }
+
+        // Partial/x-range, or an exact version
+        if (PARTIAL.matcher(operand).matches()) {
+            long[] v = partial(operand, part);
+            return switch ((int) v[3]) {
+                case 0 -> ANY;
+                case 1 -> new VersionRange(start(v[0], 0, 0), start(v[0] + 1, 0, 0));
+                case 2 -> new VersionRange(start(v[0], v[1], 0), start(v[0], v[1] + 1, 0));
+                default -> {
+                    long key = SemanticVersion.sortKey(v[0], v[1], v[2], true);
+                    yield new VersionRange(key, key + 1);
+                }
+            };
+        }
+        // With a pre-release label: exactly that pre-release
+        SemanticVersion exact = SemanticVersion.parse(operand);
+        if (exact == null) {
+            throw invalid(part);
+        }
+        String prerelease = exact.prereleaseSortKey();
+        return new VersionRange(exact.sortKey(), prerelease,
+                exact.sortKey(), prerelease + SemanticVersion.PRERELEASE_SEPARATOR);
+    }
+
+    // A comparator against a partial version compares with the whole range it stands for (npm):
+    // >1.2 is >=1.3.0, >=1.2 is >=1.2.0, <1.2 is <1.2.0-0, <=1.2 is <1.3.0-0. Against * or x:
+    // >= and <= match everything, > and < nothing.
+    private static VersionRange partialComparator(String operator, long[] v) {
+        int given = (int) v[3];
+        if (given == 0) {
+            return operator.equals(">=") || operator.equals("<=") ? ANY : NONE;
+        }
+        long first = given == 1 ? SemanticVersion.sortKey(v[0], 0, 0, true) : SemanticVersion.sortKey(v[0], v[1], 0, true);
+        long next = given == 1 ? SemanticVersion.sortKey(v[0] + 1, 0, 0, true) : SemanticVersion.sortKey(v[0], v[1] + 1, 0, true);
+        return switch (operator) {
+            case ">=" -> new VersionRange(first, Long.MAX_VALUE);
+            case ">" -> new VersionRange(next, Long.MAX_VALUE);
+            // Release keys are odd; key - 1 is the key of that version's pre-releases
+            case "<" -> new VersionRange(0, first - 1);
+            default -> new VersionRange(0, next - 1);
+        };
+    }
+
+    // [major, minor, patch, number of components given before the first wildcard]
+    private static long[] partial(String text, String part) {
+        Matcher matcher = PARTIAL.matcher(text);
+        if (!matcher.matches()) {
+            throw invalid(part);
+        }
+        long[] version = new long[4];
+        for (int i = 0; i < 3; i++) {
+            String component = matcher.group(i + 1);
+            if (component == null || !Character.isDigit(component.charAt(0))) {
+                break;
+            }
+            long value = Long.parseLong(component);
+            if (value >= SemanticVersion.MAX_COMPONENT) {
+                throw invalid(part);
+            }
+            version[i] = value;
+            version[3] = i + 1;
+        }
+        return version;
+    }
+
+    // Lowest key of a version, i.e. below all of its pre-releases
+    private static long start(long major, long minor, long patch) {
+        return SemanticVersion.sortKey(major, minor, patch, false);
+    }
+
+    private static IllegalArgumentException invalid(String part) {
+        return new IllegalArgumentException("Invalid version range: " + part);
+    }
+}
@@ -0,0 +1,48 @@
+package db.migration;
+
+import com.ibmprojects.spring_boot_service.version.SemanticVersion;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+// Fills version_sort_key / version_prerelease_key (V10) for existing rows with the same parser the
+// entity uses on writes, so both agree. Walks the table in id order, one JDBC batch per page.
+public class V11__backfill_version_sort_keys extends BaseJavaMigration {
+
+    private static final int PAGE_SIZE = 1000;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (PreparedStatement select = connection.prepareStatement(
+                     "SELECT id, version FROM artifact WHERE id > ? ORDER BY id LIMIT " + PAGE_SIZE);
+             // updated_at assigned to itself so ON UPDATE CURRENT_TIMESTAMP does not fire
+             PreparedStatement update = connection.prepareStatement(
+                     "UPDATE artifact SET version_sort_key = ?, version_prerelease_key = ?, updated_at = updated_at "
+                             + "WHERE id = ?")) {
+            long afterId = 0;
+            int rows;
+            do {
+                rows = 0;
+                select.setLong(1, afterId);
+                try (ResultSet rs = select.executeQuery()) {
+                    while (rs.next()) {
+                        rows++;
+                        afterId = rs.getLong(1);
+                        SemanticVersion version = SemanticVersion.parse(rs.getString(2));
+                        if (version != null) {
+                            update.setLong(1, version.sortKey());
+                            update.setString(2, version.prereleaseSortKey());
+                            update.setLong(3, afterId);
+                            update.addBatch();
+                        }
+                    }
+                }
+                update.executeBatch();
+            } while (rows == PAGE_SIZE);
+        }
+    }
+}
@@ -0,0 +1,14 @@
+-- V10__add_version_sort_key.sql
+-- Semver-aware ordering for /latest and /resolve. version_sort_key packs major.minor.patch and
+-- a release flag into one BIGINT (see SemanticVersion), so "highest version of a name within a
+-- range" is a backward range scan on (name, version_sort_key) that stops at the first row.
+-- version_prerelease_key orders the pre-releases of one version by SemVer precedence as a binary
+-- string (see SemanticVersion.prereleaseSortKey, e.g. rc.9 below rc.10); it is part of the index
+-- so that order comes from the index too.
+-- NULL when the version is not semver-like. Existing rows are filled by V11 (Java migration).
+
+ALTER TABLE artifact
+ADD COLUMN version_sort_key BIGINT,
+ADD COLUMN version_prerelease_key VARCHAR(255) CHARACTER SET ascii COLLATE ascii_bin;
+
+CREATE INDEX idx_artifact_name_version_sort ON artifact (name, version_sort_key, version_prerelease_key);
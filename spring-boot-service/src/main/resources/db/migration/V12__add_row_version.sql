@@ -0,0 +1,6 @@
+-- V12__add_row_version.sql
+-- Optimistic-locking version (JPA @Version), bumped on every entity update.
+-- Also the basis of the artifact ETags: a PK lookup of this column decides 304 vs 200.
+
+ALTER TABLE artifact
+ADD COLUMN row_version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,10 @@
+-- V13__create_replication_heartbeat.sql
+-- Replica lag probe for datasource-routing: each application instance writes its clock (epoch ms)
+-- into its own row on the primary every heartbeat interval and reads that row back from each
+-- replica. The difference is how stale the replica is, independent of SHOW REPLICA STATUS. Only
+-- one instance's clock is ever compared with itself, so clock skew between hosts does not matter.
+
+CREATE TABLE replication_heartbeat (
+    instance_id VARCHAR(64) PRIMARY KEY,
+    beat_at_ms BIGINT NOT NULL
+);
@@ -0,0 +1,9 @@
+-- V14__add_outbox_backoff.sql
+-- Outbox retries back off exponentially instead of polling a failing event every second.
+-- Events that exhaust sync.outbox.max-attempts are parked (kept, not deleted) until requeued
+-- through /actuator/syncoutbox; a DELETE event is the only record that the vector DB still
+-- holds the artifact, so it must never be dropped.
+
+ALTER TABLE artifact_sync_outbox
+ADD COLUMN next_attempt_at TIMESTAMP(6) NULL,
+ADD COLUMN parked_at TIMESTAMP(6) NULL;
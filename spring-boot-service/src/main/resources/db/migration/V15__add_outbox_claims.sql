@@ -0,0 +1,9 @@
+-- V15__add_outbox_claims.sql
+-- Outbox rows are claimed before delivery so several application instances can drain the same
+-- table without sending the same events twice. A claim is a lease: claimed_by is the instance
+-- delivering the row and claimed_until when other instances may take it over (the claiming
+-- instance died or hung). Unclaimed rows have both NULL.
+
+ALTER TABLE artifact_sync_outbox
+ADD COLUMN claimed_by VARCHAR(64) NULL,
+ADD COLUMN claimed_until TIMESTAMP(6) NULL;
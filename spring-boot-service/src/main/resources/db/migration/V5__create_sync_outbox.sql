@@ -0,0 +1,15 @@
+-- V5__create_sync_outbox.sql
+-- Transactional outbox for vector DB sync: one row per artifact write,
+-- inserted in the same transaction and drained in id order.
+
+CREATE TABLE IF NOT EXISTS artifact_sync_outbox (
+    id BIGINT AUTO_INCREMENT PRIMARY KEY,
+    artifact_id BIGINT NOT NULL,
+    event_type VARCHAR(20) NOT NULL,
+    -- CREATED, UPDATED, DELETED
+    created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP(6),
+    attempts INT NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000)
+);
+
+CREATE INDEX idx_outbox_artifact ON artifact_sync_outbox (artifact_id);
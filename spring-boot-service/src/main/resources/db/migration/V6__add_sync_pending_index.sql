@@ -0,0 +1,9 @@
+-- V6__add_sync_pending_index.sql
+-- The sync queue predicate (is_synced = FALSE OR last_sync_time IS NULL) spans two columns
+-- and cannot use an index. Materialize it as a stored generated column and index it with id
+-- so the keyset-paged queue query is a single range scan.
+
+ALTER TABLE artifact
+ADD COLUMN sync_pending BOOLEAN AS (is_synced = FALSE OR last_sync_time IS NULL) STORED NOT NULL;
+
+CREATE INDEX idx_artifact_sync_pending ON artifact (sync_pending, id);
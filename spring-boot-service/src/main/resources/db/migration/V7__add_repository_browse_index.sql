@@ -0,0 +1,8 @@
+-- V7__add_repository_browse_index.sql
+-- /by-repository pages with WHERE repository_url = ? ORDER BY created_at DESC, id DESC.
+-- The composite index serves that order directly and still covers plain repository_url lookups,
+-- so it replaces idx_artifact_repo.
+
+CREATE INDEX idx_artifact_repo_created ON artifact (repository_url, created_at, id);
+
+DROP INDEX idx_artifact_repo ON artifact;
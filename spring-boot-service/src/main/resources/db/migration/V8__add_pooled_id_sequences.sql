@@ -0,0 +1,23 @@
+-- V8__add_pooled_id_sequences.sql
+-- Hibernate hands out artifact and outbox ids from these one-row sequence tables, 50 at a time
+-- (allocationSize in the entities), instead of reading back an AUTO_INCREMENT key per row.
+-- That lets inserts be sent as JDBC batches.
+--
+-- Seeded past the current max id: with the pooled optimizer the first value read is the upper
+-- end of the first block, so MAX(id) + 50 + 1 keeps every new id above the existing ones.
+-- AUTO_INCREMENT stays on the id columns to avoid a table rebuild; application inserts must not
+-- rely on it any more.
+
+CREATE TABLE artifact_seq (
+    next_val BIGINT
+);
+
+INSERT INTO artifact_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM artifact;
+
+CREATE TABLE artifact_sync_outbox_seq (
+    next_val BIGINT
+);
+
+INSERT INTO artifact_sync_outbox_seq (next_val)
+SELECT COALESCE(MAX(id), 0) + 51 FROM artifact_sync_outbox;
@@ -0,0 +1,17 @@
+-- V9__add_search_indexes.sql
+-- Full-text search over name/description, plus indexed generated columns for the metadata
+-- keys that are searched most often. The generated columns are VIRTUAL so adding them does
+-- not rebuild the table; their secondary indexes are materialized.
+
+CREATE FULLTEXT INDEX ft_artifact_name_description ON artifact (name, description);
+
+ALTER TABLE artifact
+ADD COLUMN meta_group_id VARCHAR(255) AS (metadata->>'$.groupId') VIRTUAL,
+ADD COLUMN meta_artifact_id VARCHAR(255) AS (metadata->>'$.artifactId') VIRTUAL,
+ADD COLUMN meta_license VARCHAR(100) AS (metadata->>'$.license') VIRTUAL;
+
+CREATE INDEX idx_artifact_meta_group ON artifact (meta_group_id);
+
+CREATE INDEX idx_artifact_meta_artifact ON artifact (meta_artifact_id);
+
+CREATE INDEX idx_artifact_meta_license ON artifact (meta_license);
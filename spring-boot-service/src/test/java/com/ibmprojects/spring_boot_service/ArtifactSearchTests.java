@@ -0,0 +1,135 @@
+package com.ibmprojects.spring_boot_service;
+
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactCreateRequest;
+import com.ibmprojects.spring_boot_service.service.ArtifactService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// GET /search against MySQL: FULLTEXT matching, the LIKE fallback for terms shorter than
+// innodb_ft_min_token_size, facets, and which handler the query parameters route to.
+// Every search is scoped to REPOSITORY so rows written by other tests do not count.
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.cache.type=none",
+		"sync.interval=86400000",
+		"sync.outbox.enabled=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ArtifactSearchTests {
+
+	private static final String REPOSITORY = "https://github.com/example/search-tests";
+	private static final String SEARCH = "/api/v1/artifacts/search?repositoryUrl=" + REPOSITORY;
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private ArtifactService artifactService;
+
+	@BeforeAll
+	void seed() {
+		create("quokka-parser", "Streaming JSON parser", "JAR", "SUCCESS", Map.of("groupId", "com.example.search"));
+		create("quokka-cli", "Command line tool around the parser", "NPM", "FAILED", Map.of());
+		create("wombat-core", "Core library", "JAR", "SUCCESS", Map.of());
+		create("ab-tool", "Two letter name prefix", "JAR", null, Map.of());
+	}
+
+	@Test
+	void fullTextMatchesWordPrefixesInNameAndDescription() {
+		assertThat(names(search("&q=quokka"))).containsExactlyInAnyOrder("quokka-parser", "quokka-cli");
+		assertThat(names(search("&q=quok"))).containsExactlyInAnyOrder("quokka-parser", "quokka-cli");
+		// "parser" is in one name and in the other description
+		assertThat(names(search("&q=parser"))).containsExactlyInAnyOrder("quokka-parser", "quokka-cli");
+		// Every word has to match
+		assertThat(names(search("&q=quokka json"))).containsExactly("quokka-parser");
+		assertThat(names(search("&q=platypus"))).isEmpty();
+	}
+
+	@Test
+	void termsTooShortForTheIndexFallBackToNamePrefix() {
+		assertThat(names(search("&q=ab"))).containsExactly("ab-tool");
+		assertThat(names(search("&q=wo"))).containsExactly("wombat-core");
+		// Short words are dropped when a longer one can use the index
+		assertThat(names(search("&q=ab wombat"))).containsExactly("wombat-core");
+	}
+
+	@Test
+	void facetsCountTheWholeMatchSet() {
+		Map<String, Object> body = search("&q=quokka&size=1");
+
+		assertThat(body).containsEntry("total", 2);
+		assertThat((List<?>) body.get("items")).hasSize(1);
+		Map<?, ?> facets = (Map<?, ?>) body.get("facets");
+		assertThat((Map<?, ?>) facets.get("type")).isEqualTo(Map.of("JAR", 1, "NPM", 1));
+		assertThat((Map<?, ?>) facets.get("buildStatus")).isEqualTo(Map.of("SUCCESS", 1, "FAILED", 1));
+		assertThat((Map<?, ?>) facets.get("repositoryUrl")).isEqualTo(Map.of(REPOSITORY, 2));
+	}
+
+	@Test
+	void exactFiltersNarrowTheMatch() {
+		assertThat(names(search("&type=JAR"))).containsExactlyInAnyOrder("quokka-parser", "wombat-core", "ab-tool");
+		assertThat(names(search("&q=quokka&buildStatus=FAILED"))).containsExactly("quokka-cli");
+		assertThat(names(search("&groupId=com.example.search"))).containsExactly("quokka-parser");
+
+		Map<String, Object> none = search("&q=quokka&type=DOCKER");
+		assertThat(none).containsEntry("total", 0);
+		assertThat((List<?>) none.get("items")).isEmpty();
+	}
+
+	@Test
+	void parametersRouteToLookupOrSearch() {
+		// name and version together: the exact lookup, one artifact
+		ResponseEntity<Map> exact = restTemplate.getForEntity(
+				"/api/v1/artifacts/search?name=quokka-parser&version=1.0.0", Map.class);
+		assertThat(exact.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(exact.getBody()).containsEntry("name", "quokka-parser");
+
+		// Either one alone matches neither handler
+		assertThat(restTemplate.getForEntity("/api/v1/artifacts/search?name=quokka-parser", Map.class)
+				.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+		assertThat(restTemplate.getForEntity("/api/v1/artifacts/search?version=1.0.0", Map.class)
+				.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+
+		// Anything else is a search
+		assertThat(search("&q=quokka")).containsKeys("items", "total", "facets");
+	}
+
+	private Map<String, Object> search(String params) {
+		ResponseEntity<Map> response = restTemplate.getForEntity(SEARCH + params, Map.class);
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		@SuppressWarnings("unchecked")
+		Map<String, Object> body = response.getBody();
+		return body;
+	}
+
+	private static List<String> names(Map<String, Object> body) {
+		return ((List<?>) body.get("items")).stream().map(item -> (String) ((Map<?, ?>) item).get("name")).toList();
+	}
+
+	private void create(String name, String description, String type, String buildStatus, Map<String, Object> metadata) {
+		ArtifactCreateRequest request = new ArtifactCreateRequest();
+		request.setName(name);
+		request.setVersion("1.0.0");
+		request.setDescription(description);
+		request.setType(type);
+		request.setBuildStatus(buildStatus);
+		request.setRepositoryUrl(REPOSITORY);
+		request.setMetadata(metadata);
+		artifactService.createArtifact(request);
+	}
+
+}
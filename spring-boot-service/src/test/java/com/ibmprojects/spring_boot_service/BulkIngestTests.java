@@ -0,0 +1,158 @@
+package com.ibmprojects.spring_boot_service;
+
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactCreateRequest;
+import com.ibmprojects.spring_boot_service.repository.ArtifactRepository;
+import com.ibmprojects.spring_boot_service.service.ArtifactService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// POST /bulk with chunks of two items: per-item results for a payload mixing new, duplicate and
+// invalid artifacts, the row-by-row retry after a chunk fails in the database, and max-items.
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.cache.type=none",
+		"sync.interval=86400000",
+		"sync.outbox.enabled=false",
+		"bulk.chunk-size=2",
+		"bulk.max-items=5"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class BulkIngestTests {
+
+	private static final String BULK = "/api/v1/artifacts/bulk";
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private ArtifactService artifactService;
+
+	@Autowired
+	private ArtifactRepository artifactRepository;
+
+	@Test
+	void mixedPayloadGetsAResultPerItem() {
+		ArtifactCreateRequest existing = new ArtifactCreateRequest();
+		existing.setName("bulk-mixed-existing");
+		existing.setVersion("1.0.0");
+		existing.setType("JAR");
+		artifactService.createArtifact(existing);
+
+		ResponseEntity<Map> response = post(MediaType.APPLICATION_JSON, """
+				[
+				  {"name": "bulk-mixed-a", "version": "1.0.0", "type": "JAR"},
+				  {"name": "bulk-mixed-existing", "version": "1.0.0", "type": "JAR"},
+				  {"name": "bulk-mixed-invalid", "version": "1.0.0"},
+				  {"name": "bulk-mixed-a", "version": "1.0.0", "type": "NPM"},
+				  {"name": "bulk-mixed-b", "version": "1.0.0", "type": "JAR"}
+				]""");
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.MULTI_STATUS);
+		assertThat(response.getBody()).containsEntry("received", 5).containsEntry("created", 2)
+				.containsEntry("conflicts", 2).containsEntry("invalid", 1);
+		List<Map<String, Object>> results = results(response);
+		assertThat(results).extracting(result -> result.get("index")).containsExactly(0, 1, 2, 3, 4);
+		assertThat(results).extracting(result -> result.get("status"))
+				.containsExactly("CREATED", "CONFLICT", "INVALID", "CONFLICT", "CREATED");
+		assertThat(results.get(1).get("errors")).isEqualTo(List.of("An artifact with this name and version already exists"));
+		assertThat(results.get(2).get("errors")).isEqualTo(List.of("type: Type is required"));
+		assertThat(results.get(3).get("errors")).isEqualTo(List.of("Duplicate name and version within this request"));
+
+		// The first occurrence of the in-request duplicate is the one created
+		assertCreated(results.get(0), "JAR");
+		assertCreated(results.get(4), "JAR");
+		assertThat(artifactRepository.findByNameAndVersion("bulk-mixed-invalid", "1.0.0")).isEmpty();
+	}
+
+	@Test
+	void chunkRejectedByTheDatabaseIsRetriedRowByRow() {
+		// file_path is VARCHAR(500): passes validation, fails the chunk's INSERT
+		String tooLong = "x".repeat(600);
+		ResponseEntity<Map> response = post(MediaType.APPLICATION_JSON, """
+				[
+				  {"name": "bulk-retry-a", "version": "1.0.0", "type": "JAR"},
+				  {"name": "bulk-retry-rejected", "version": "1.0.0", "type": "JAR", "filePath": "%s"},
+				  {"name": "bulk-retry-b", "version": "1.0.0", "type": "JAR"}
+				]""".formatted(tooLong));
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.MULTI_STATUS);
+		List<Map<String, Object>> results = results(response);
+		assertThat(results).extracting(result -> result.get("status")).containsExactly("CREATED", "INVALID", "CREATED");
+		assertThat((List<?>) results.get(1).get("errors")).hasSize(1);
+		// Its chunk partner was rolled back with it and then written on its own
+		assertCreated(results.get(0), "JAR");
+		assertCreated(results.get(2), "JAR");
+		assertThat(artifactRepository.findByNameAndVersion("bulk-retry-rejected", "1.0.0")).isEmpty();
+	}
+
+	@Test
+	void allCreatedFromNdjson() {
+		ResponseEntity<Map> response = post(MediaType.APPLICATION_NDJSON, """
+				{"name": "bulk-ndjson", "version": "1.0.0", "type": "JAR"}
+				{"name": "bulk-ndjson", "version": "1.1.0", "type": "JAR"}
+				{"name": "bulk-ndjson", "version": "1.2.0", "type": "JAR"}
+				""");
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(response.getBody()).containsEntry("received", 3).containsEntry("created", 3);
+		results(response).forEach(result -> assertCreated(result, "JAR"));
+	}
+
+	@Test
+	void rejectsMoreThanMaxItems() {
+		StringBuilder body = new StringBuilder();
+		for (int i = 0; i < 6; i++) {
+			body.append("{\"name\": \"bulk-too-many\", \"version\": \"1.0.").append(i).append("\", \"type\": \"JAR\"}\n");
+		}
+
+		ResponseEntity<Map> response = post(MediaType.APPLICATION_NDJSON, body.toString());
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+		assertThat((String) response.getBody().get("message")).contains("limit of 5 items");
+		assertThat(artifactRepository.findByNameAndVersion("bulk-too-many", "1.0.0")).isEmpty();
+	}
+
+	@Test
+	void rejectsMalformedPayload() {
+		ResponseEntity<Map> response = post(MediaType.APPLICATION_JSON, "[{\"name\": \"bulk-malformed\",");
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+		assertThat((String) response.getBody().get("message")).startsWith("Malformed bulk payload");
+	}
+
+	private void assertCreated(Map<String, Object> result, String type) {
+		assertThat(result.get("status")).isEqualTo("CREATED");
+		long id = ((Number) result.get("id")).longValue();
+		assertThat(artifactRepository.findById(id)).hasValueSatisfying(artifact -> {
+			assertThat(artifact.getName()).isEqualTo(result.get("name"));
+			assertThat(artifact.getVersion()).isEqualTo(result.get("version"));
+			assertThat(artifact.getType()).isEqualTo(type);
+		});
+	}
+
+	private ResponseEntity<Map> post(MediaType contentType, String body) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(contentType);
+		return restTemplate.postForEntity(BULK, new HttpEntity<>(body, headers), Map.class);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<Map<String, Object>> results(ResponseEntity<Map> response) {
+		return (List<Map<String, Object>>) response.getBody().get("results");
+	}
+
+}
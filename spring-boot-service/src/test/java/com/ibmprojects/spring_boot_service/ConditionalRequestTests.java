@@ -0,0 +1,194 @@
+package com.ibmprojects.spring_boot_service;
+
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactCreateRequest;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactUpdateRequest;
+import com.ibmprojects.spring_boot_service.repository.ArtifactRepository;
+import com.ibmprojects.spring_boot_service.service.ArtifactService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+// ETags over HTTP: 304 for unchanged GETs, 412 for writes whose If-Match is stale, and 409 when
+// another write commits while an update is in progress.
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"spring.cache.type=none",
+		"sync.interval=86400000",
+		"sync.outbox.enabled=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class ConditionalRequestTests {
+
+	private static final String ARTIFACTS = "/api/v1/artifacts/";
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private ArtifactService artifactService;
+
+	@Autowired
+	private ArtifactRepository artifactRepository;
+
+	@Test
+	void unchangedArtifactIsNotModified() {
+		long id = create("conditional-get", "1.0.0");
+		String etag = get(ARTIFACTS + id, null).getHeaders().getETag();
+
+		assertThat(get(ARTIFACTS + id, etag).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+		update(id, "changed", null);
+		ResponseEntity<String> changed = get(ARTIFACTS + id, etag);
+		assertThat(changed.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(changed.getHeaders().getETag()).isNotEqualTo(etag);
+	}
+
+	@Test
+	void historyETagChangesWithAnyVersion() {
+		long first = create("conditional-history", "1.0.0");
+		long second = create("conditional-history", "1.1.0");
+		String history = ARTIFACTS + first + "/history";
+		String etag = get(history, null).getHeaders().getETag();
+
+		assertThat(get(history, etag).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+		// Asked through another version of the same name: same history, same ETag
+		assertThat(get(ARTIFACTS + second + "/history", etag).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+
+		// Updating one version changes it
+		update(second, "changed", null);
+		ResponseEntity<String> updated = get(history, etag);
+		assertThat(updated.getStatusCode()).isEqualTo(HttpStatus.OK);
+		String afterUpdate = updated.getHeaders().getETag();
+		assertThat(afterUpdate).isNotEqualTo(etag);
+
+		// So does adding one; removing it again is the same content as before, with the same ETag
+		long third = create("conditional-history", "1.2.0");
+		String afterCreate = get(history, afterUpdate).getHeaders().getETag();
+		assertThat(afterCreate).isNotNull().isNotEqualTo(afterUpdate);
+		restTemplate.delete(ARTIFACTS + third);
+		assertThat(get(history, afterCreate).getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(get(history, afterUpdate).getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+	}
+
+	@Test
+	void writeWithStaleIfMatchFailsPrecondition() {
+		long id = create("conditional-write", "1.0.0");
+		String stale = get(ARTIFACTS + id, null).getHeaders().getETag();
+		ResponseEntity<Map> updated = update(id, "first", stale);
+		assertThat(updated.getStatusCode()).isEqualTo(HttpStatus.OK);
+		String current = updated.getHeaders().getETag();
+		assertThat(current).isNotEqualTo(stale);
+
+		assertThat(update(id, "lost update", stale).getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+		assertThat(delete(id, stale).getStatusCode()).isEqualTo(HttpStatus.PRECONDITION_FAILED);
+		assertThat(artifactRepository.findById(id).orElseThrow().getDescription()).isEqualTo("first");
+
+		assertThat(update(id, "second", current).getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(artifactRepository.findById(id).orElseThrow().getDescription()).isEqualTo("second");
+	}
+
+	@Test
+	void versionCheckedAgainOnTheLoadedRow() {
+		long id = create("conditional-recheck", "1.0.0");
+		String etag = artifactService.getArtifactETag(id);
+		// Commits after the controller's If-Match check and before the update loads the row
+		update(id, "concurrent", null);
+
+		ArtifactUpdateRequest request = new ArtifactUpdateRequest();
+		request.setDescription("lost update");
+		assertThatThrownBy(() -> artifactService.updateArtifact(id, request, etag))
+				.isInstanceOf(OptimisticLockingFailureException.class);
+		assertThat(artifactRepository.findById(id).orElseThrow().getDescription()).isEqualTo("concurrent");
+	}
+
+	@Test
+	void concurrentConditionalUpdatesLetExactlyOneWin() throws Exception {
+		long id = create("conditional-concurrent", "1.0.0");
+		String etag = get(ARTIFACTS + id, null).getHeaders().getETag();
+		long rowVersion = artifactRepository.findById(id).orElseThrow().getRowVersion();
+
+		int writers = 8;
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<HttpStatusCode>> results = new ArrayList<>();
+		ExecutorService executor = Executors.newFixedThreadPool(writers);
+		try {
+			for (int i = 0; i < writers; i++) {
+				String description = "writer " + i;
+				Callable<HttpStatusCode> write = () -> {
+					start.await();
+					return update(id, description, etag).getStatusCode();
+				};
+				results.add(executor.submit(write));
+			}
+			start.countDown();
+
+			int succeeded = 0;
+			for (Future<HttpStatusCode> result : results) {
+				HttpStatusCode status = result.get();
+				// Lost the race: before the If-Match check (412) or after it (409)
+				assertThat(status).isIn(HttpStatus.OK, HttpStatus.PRECONDITION_FAILED, HttpStatus.CONFLICT);
+				if (status == HttpStatus.OK) {
+					succeeded++;
+				}
+			}
+			assertThat(succeeded).isEqualTo(1);
+			assertThat(artifactRepository.findById(id).orElseThrow().getRowVersion()).isEqualTo(rowVersion + 1);
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	private long create(String name, String version) {
+		ArtifactCreateRequest request = new ArtifactCreateRequest();
+		request.setName(name);
+		request.setVersion(version);
+		request.setType("JAR");
+		return artifactService.createArtifact(request).getId();
+	}
+
+	private ResponseEntity<String> get(String path, String ifNoneMatch) {
+		HttpHeaders headers = new HttpHeaders();
+		if (ifNoneMatch != null) {
+			headers.setIfNoneMatch(ifNoneMatch);
+		}
+		return restTemplate.exchange(path, HttpMethod.GET, new HttpEntity<>(headers), String.class);
+	}
+
+	private ResponseEntity<Map> update(long id, String description, String ifMatch) {
+		HttpHeaders headers = new HttpHeaders();
+		if (ifMatch != null) {
+			headers.setIfMatch(ifMatch);
+		}
+		return restTemplate.exchange(ARTIFACTS + id, HttpMethod.PUT,
+				new HttpEntity<>(Map.of("description", description), headers), Map.class);
+	}
+
+	private ResponseEntity<Void> delete(long id, String ifMatch) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setIfMatch(ifMatch);
+		return restTemplate.exchange(ARTIFACTS + id, HttpMethod.DELETE, new HttpEntity<>(headers), Void.class);
+	}
+
+}
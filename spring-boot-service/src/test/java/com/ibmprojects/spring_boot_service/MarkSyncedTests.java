@@ -0,0 +1,75 @@
+package com.ibmprojects.spring_boot_service;
+
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactCreateRequest;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactUpdateRequest;
+import com.ibmprojects.spring_boot_service.model.Artifact;
+import com.ibmprojects.spring_boot_service.repository.ArtifactRepository;
+import com.ibmprojects.spring_boot_service.service.ArtifactService;
+import com.ibmprojects.spring_boot_service.service.SyncService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The bulk "mark as synced" only applies to rows still at the version that was sent to the vector DB
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+		"sync.interval=86400000",
+		"sync.outbox.enabled=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class MarkSyncedTests {
+
+	@Autowired
+	private ArtifactService artifactService;
+
+	@Autowired
+	private SyncService syncService;
+
+	@Autowired
+	private ArtifactRepository artifactRepository;
+
+	@Test
+	void marksUnchangedArtifactsSynced() {
+		long id = create("mark-synced-unchanged");
+		List<Artifact> batch = List.of(artifactRepository.findById(id).orElseThrow());
+
+		syncService.markAsSynced(batch);
+
+		assertThat(artifactRepository.findById(id).orElseThrow().getIsSynced()).isTrue();
+	}
+
+	@Test
+	void leavesArtifactUpdatedDuringTheSyncPending() {
+		long unchanged = create("mark-synced-other");
+		long updated = create("mark-synced-updated");
+		// The batch as the sync read and sent it
+		List<Artifact> batch = artifactRepository.findAllById(List.of(unchanged, updated));
+
+		// Commits while the batch is in flight
+		ArtifactUpdateRequest update = new ArtifactUpdateRequest();
+		update.setDescription("changed while syncing");
+		artifactService.updateArtifact(updated, update, null);
+
+		syncService.markAsSynced(batch);
+
+		assertThat(artifactRepository.findById(unchanged).orElseThrow().getIsSynced()).isTrue();
+		Artifact stillPending = artifactRepository.findById(updated).orElseThrow();
+		assertThat(stillPending.getIsSynced()).isFalse();
+		assertThat(stillPending.getDescription()).isEqualTo("changed while syncing");
+	}
+
+	private long create(String name) {
+		ArtifactCreateRequest request = new ArtifactCreateRequest();
+		request.setName(name);
+		request.setVersion("1.0.0");
+		request.setType("JAR");
+		return artifactService.createArtifact(request).getId();
+	}
+
+}
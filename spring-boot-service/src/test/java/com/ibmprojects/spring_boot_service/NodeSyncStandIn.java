@@ -0,0 +1,229 @@
+package com.ibmprojects.spring_boot_service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+
+// Local stand-in for the Node.js AI service's /api/sync and /api/sync/delete, so the sync can be
+// driven without the OpenShift deployment. Status codes follow syncRoutes.js: 200 when every artifact
+// succeeded, 207 with per-artifact results when some failed, 500 when all failed. On top of that,
+// requests can be delayed and answered with an injected 5xx. Behaviour can be changed while running.
+class NodeSyncStandIn implements AutoCloseable {
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+	// Delay per request, plus per artifact (the real service embeds artifacts one by one)
+	private volatile Duration latency = Duration.ZERO;
+	private volatile Duration latencyPerArtifact = Duration.ZERO;
+	// Share of artifacts reported as failed in an otherwise successful request
+	private volatile double failureRatio;
+	// Share of requests answered with serverErrorStatus before anything is processed
+	private volatile double serverErrorRatio;
+	private volatile int serverErrorStatus = 500;
+
+	private final LongAdder requests = new LongAdder();
+	private final LongAdder serverErrors = new LongAdder();
+	private final LongAdder artifactsReceived = new LongAdder();
+	private final LongAdder artifactsFailed = new LongAdder();
+	// Artifact id -> System.nanoTime() of its first successful sync
+	private final Map<Long, Long> firstAcknowledged = new ConcurrentHashMap<>();
+	private final Map<Long, Long> deleted = new ConcurrentHashMap<>();
+
+	private NodeSyncStandIn(HttpServer server) {
+		this.server = server;
+		server.createContext("/api/sync/delete", exchange -> handle(exchange, this::delete));
+		server.createContext("/api/sync", exchange -> handle(exchange, this::sync));
+		server.setExecutor(executor);
+	}
+
+	static NodeSyncStandIn start() throws IOException {
+		HttpServer server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		NodeSyncStandIn standIn = new NodeSyncStandIn(server);
+		server.start();
+		return standIn;
+	}
+
+	// Value for nodejs.service.url
+	String url() {
+		return "http://localhost:" + server.getAddress().getPort();
+	}
+
+	NodeSyncStandIn latency(Duration perRequest, Duration perArtifact) {
+		this.latency = perRequest;
+		this.latencyPerArtifact = perArtifact;
+		return this;
+	}
+
+	NodeSyncStandIn failureRatio(double failureRatio) {
+		this.failureRatio = failureRatio;
+		return this;
+	}
+
+	NodeSyncStandIn serverErrors(double ratio, int status) {
+		this.serverErrorRatio = ratio;
+		this.serverErrorStatus = status;
+		return this;
+	}
+
+	// Back to an instant, always-successful service with zeroed counters
+	void reset() {
+		latency(Duration.ZERO, Duration.ZERO).failureRatio(0).serverErrors(0, 500);
+		requests.reset();
+		serverErrors.reset();
+		artifactsReceived.reset();
+		artifactsFailed.reset();
+		firstAcknowledged.clear();
+		deleted.clear();
+	}
+
+	long requests() {
+		return requests.sum();
+	}
+
+	long serverErrors() {
+		return serverErrors.sum();
+	}
+
+	long artifactsReceived() {
+		return artifactsReceived.sum();
+	}
+
+	long artifactsFailed() {
+		return artifactsFailed.sum();
+	}
+
+	int acknowledgedCount() {
+		return firstAcknowledged.size();
+	}
+
+	// System.nanoTime() of the first successful sync of the artifact, or null
+	Long acknowledgedAt(long artifactId) {
+		return firstAcknowledged.get(artifactId);
+	}
+
+	boolean isDeleted(long artifactId) {
+		return deleted.containsKey(artifactId);
+	}
+
+	@Override
+	public void close() {
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange, Handler handler) throws IOException {
+		try (exchange) {
+			if (!"POST".equals(exchange.getRequestMethod())) {
+				exchange.sendResponseHeaders(405, -1);
+				return;
+			}
+			requests.increment();
+			JsonNode body = readBody(exchange);
+			int size = body.isArray() ? body.size() : body.path("ids").size();
+			Thread.sleep(latency.plus(latencyPerArtifact.multipliedBy(size)));
+
+			if (serverErrorRatio > 0 && ThreadLocalRandom.current().nextDouble() < serverErrorRatio) {
+				serverErrors.increment();
+				respond(exchange, serverErrorStatus, Map.of("success", false, "error", "Injected server error"));
+				return;
+			}
+			handler.handle(exchange, body);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private void sync(HttpExchange exchange, JsonNode body) throws IOException {
+		// RestTemplate posts a JSON array; the real route also accepts a single object
+		List<JsonNode> artifacts = new ArrayList<>();
+		if (body.isArray()) {
+			body.forEach(artifacts::add);
+		} else {
+			artifacts.add(body);
+		}
+
+		long now = System.nanoTime();
+		double ratio = failureRatio;
+		List<Map<String, Object>> results = new ArrayList<>(artifacts.size());
+		int succeeded = 0;
+		for (JsonNode artifact : artifacts) {
+			long id = artifact.path("id").asLong();
+			Map<String, Object> result = new LinkedHashMap<>();
+			if (ratio > 0 && ThreadLocalRandom.current().nextDouble() < ratio) {
+				result.put("success", false);
+				result.put("artifactId", id);
+				result.put("error", "Injected embedding failure");
+				artifactsFailed.increment();
+			} else {
+				result.put("success", true);
+				result.put("artifactId", id);
+				firstAcknowledged.putIfAbsent(id, now);
+				succeeded++;
+			}
+			results.add(result);
+		}
+		artifactsReceived.add(artifacts.size());
+
+		int status = succeeded == artifacts.size() ? 200 : succeeded == 0 ? 500 : 207;
+		Map<String, Object> response = new LinkedHashMap<>();
+		response.put("success", succeeded == artifacts.size());
+		response.put("message", "Synced " + succeeded + "/" + artifacts.size() + " artifacts");
+		response.put("results", results);
+		respond(exchange, status, response);
+	}
+
+	private void delete(HttpExchange exchange, JsonNode body) throws IOException {
+		long now = System.nanoTime();
+		List<Map<String, Object>> results = new ArrayList<>();
+		for (JsonNode id : body.path("ids")) {
+			deleted.putIfAbsent(id.asLong(), now);
+			results.add(Map.of("success", true, "artifactId", id.asLong()));
+		}
+		respond(exchange, 200, Map.of("success", true, "message", "Deleted " + results.size() + " artifacts",
+				"results", results));
+	}
+
+	private JsonNode readBody(HttpExchange exchange) throws IOException {
+		// Larger sync requests arrive gzip-compressed (sync.http.compress-requests)
+		InputStream in = exchange.getRequestBody();
+		if ("gzip".equalsIgnoreCase(exchange.getRequestHeaders().getFirst("Content-Encoding"))) {
+			in = new GZIPInputStream(in);
+		}
+		return objectMapper.readTree(in);
+	}
+
+	private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+		byte[] bytes = objectMapper.writeValueAsBytes(body);
+		exchange.getResponseHeaders().set("Content-Type", "application/json");
+		exchange.sendResponseHeaders(status, bytes.length);
+		try (OutputStream out = exchange.getResponseBody()) {
+			out.write(bytes);
+		}
+	}
+
+	@FunctionalInterface
+	private interface Handler {
+		void handle(HttpExchange exchange, JsonNode body) throws IOException;
+	}
+
+}
@@ -0,0 +1,23 @@
+package com.ibmprojects.spring_boot_service;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.DynamicPropertyRegistrar;
+
+import java.io.IOException;
+
+// Points nodejs.service.url at a NodeSyncStandIn started with the context
+@TestConfiguration(proxyBeanMethods = false)
+class NodeSyncStandInConfiguration {
+
+	@Bean(destroyMethod = "close")
+	NodeSyncStandIn nodeSyncStandIn() throws IOException {
+		return NodeSyncStandIn.start();
+	}
+
+	@Bean
+	DynamicPropertyRegistrar nodeSyncStandInProperties(NodeSyncStandIn nodeSyncStandIn) {
+		return registry -> registry.add("nodejs.service.url", nodeSyncStandIn::url);
+	}
+
+}
@@ -0,0 +1,158 @@
+package com.ibmprojects.spring_boot_service;
+
+import com.ibmprojects.spring_boot_service.datasource.ReadYourWritesFilter;
+import com.ibmprojects.spring_boot_service.datasource.ReplicaLagMonitor;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Read/write routing against two MySQL containers. The "replica" is not replicated to: each test
+// sets its heartbeat (how far behind it looks) and what it contains, then checks which database
+// answered. The heartbeat interval is long enough that the tests decide when lag is measured.
+@Import({TestcontainersConfiguration.class, ReplicaTestcontainersConfiguration.class})
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+		"datasource-routing.enabled=true",
+		"datasource-routing.heartbeat-interval=3600000",
+		"datasource-routing.max-lag=3s",
+		"spring.cache.type=none",
+		"sync.interval=86400000",
+		"sync.outbox.enabled=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ReadReplicaRoutingTests {
+
+	private static final long REPLICA_ONLY_ID = 900_001L;
+
+	@Autowired
+	private TestRestTemplate restTemplate;
+
+	@Autowired
+	private ReplicaLagMonitor replicaLagMonitor;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	@Qualifier("replicaContainer")
+	private MySQLContainer<?> replicaContainer;
+
+	private JdbcTemplate replica;
+
+	@BeforeAll
+	void prepareReplica() {
+		// Same schema as the primary, plus one row the primary does not have
+		Flyway.configure()
+				.dataSource(replicaContainer.getJdbcUrl(), replicaContainer.getUsername(), replicaContainer.getPassword())
+				.locations("classpath:db/migration")
+				.load()
+				.migrate();
+		replica = new JdbcTemplate(new DriverManagerDataSource(
+				replicaContainer.getJdbcUrl(), replicaContainer.getUsername(), replicaContainer.getPassword()));
+		replica.update("INSERT INTO artifact (id, name, version, type) VALUES (?, 'replica-only', '1.0.0', 'JAR')",
+				REPLICA_ONLY_ID);
+	}
+
+	@Test
+	void readsGoToCaughtUpReplica() {
+		replicaBehindBy(Duration.ZERO);
+
+		ResponseEntity<Map> response = restTemplate.getForEntity("/api/v1/artifacts/" + REPLICA_ONLY_ID, Map.class);
+
+		assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(response.getBody()).containsEntry("name", "replica-only");
+	}
+
+	@Test
+	void writesGoToPrimary() {
+		replicaBehindBy(Duration.ZERO);
+
+		ResponseEntity<Map> created = create("primary-write");
+
+		assertThat(created.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(countByName(jdbcTemplate, "primary-write")).isEqualTo(1);
+		assertThat(countByName(replica, "primary-write")).isZero();
+	}
+
+	@Test
+	void laggingReplicaFallsBackToPrimary() {
+		long id = idOf(create("lagging-fallback"));
+		replicaBehindBy(Duration.ofMinutes(1));
+
+		assertThat(restTemplate.getForEntity("/api/v1/artifacts/" + id, Map.class).getStatusCode())
+				.isEqualTo(HttpStatus.OK);
+		assertThat(restTemplate.getForEntity("/api/v1/artifacts/" + REPLICA_ONLY_ID, Map.class).getStatusCode())
+				.isEqualTo(HttpStatus.NOT_FOUND);
+	}
+
+	@Test
+	void readsFollowingAWriteStayOnPrimary() {
+		replicaBehindBy(Duration.ZERO);
+		ResponseEntity<Map> created = create("read-your-writes");
+		long id = idOf(created);
+		String cookie = created.getHeaders().getFirst(HttpHeaders.SET_COOKIE);
+		String primaryUntil = created.getHeaders().getFirst(ReadYourWritesFilter.HEADER);
+		assertThat(cookie).startsWith(ReadYourWritesFilter.COOKIE + "=");
+		assertThat(primaryUntil).isNotNull();
+
+		HttpHeaders withCookie = new HttpHeaders();
+		withCookie.add(HttpHeaders.COOKIE, cookie.substring(0, cookie.indexOf(';')));
+		HttpHeaders withHeader = new HttpHeaders();
+		withHeader.add(ReadYourWritesFilter.HEADER, primaryUntil);
+
+		// Same client: primary, which has the new artifact
+		assertThat(get(id, withCookie).getStatusCode()).isEqualTo(HttpStatus.OK);
+		assertThat(get(id, withHeader).getStatusCode()).isEqualTo(HttpStatus.OK);
+		// Any other client: the replica, which has not seen it
+		assertThat(get(id, new HttpHeaders()).getStatusCode()).isEqualTo(HttpStatus.NOT_FOUND);
+	}
+
+	// Stands in for replication: the replica shows a heartbeat that old, then the monitor measures it
+	private void replicaBehindBy(Duration lag) {
+		long beat = System.currentTimeMillis() - lag.toMillis();
+		if (replica.update("UPDATE replication_heartbeat SET beat_at_ms = ? WHERE instance_id = ?",
+				beat, replicaLagMonitor.getInstanceId()) == 0) {
+			replica.update("INSERT INTO replication_heartbeat (instance_id, beat_at_ms) VALUES (?, ?)",
+					replicaLagMonitor.getInstanceId(), beat);
+		}
+		replicaLagMonitor.refresh();
+	}
+
+	private ResponseEntity<Map> create(String name) {
+		return restTemplate.postForEntity("/api/v1/artifacts",
+				Map.of("name", name, "version", "1.0.0", "type", "JAR"), Map.class);
+	}
+
+	private ResponseEntity<Map> get(long id, HttpHeaders headers) {
+		return restTemplate.exchange("/api/v1/artifacts/" + id, HttpMethod.GET, new HttpEntity<>(headers), Map.class);
+	}
+
+	private static long idOf(ResponseEntity<Map> response) {
+		return ((Number) response.getBody().get("id")).longValue();
+	}
+
+	private static int countByName(JdbcTemplate jdbc, String name) {
+		return jdbc.queryForObject("SELECT COUNT(*) FROM artifact WHERE name = ?", Integer.class, name);
+	}
+
+}
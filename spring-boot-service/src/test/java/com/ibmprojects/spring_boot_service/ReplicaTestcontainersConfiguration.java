@@ -0,0 +1,28 @@
+package com.ibmprojects.spring_boot_service;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.test.context.DynamicPropertyRegistrar;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.utility.DockerImageName;
+
+// A second MySQL registered as datasource-routing's only replica. There is no replication from
+// the primary: tests write to it directly to control what it contains and how stale it looks.
+@TestConfiguration(proxyBeanMethods = false)
+class ReplicaTestcontainersConfiguration {
+
+	@Bean
+	MySQLContainer<?> replicaContainer() {
+		return new MySQLContainer<>(DockerImageName.parse("mysql:latest"));
+	}
+
+	@Bean
+	DynamicPropertyRegistrar replicaProperties(MySQLContainer<?> replicaContainer) {
+		return registry -> {
+			registry.add("datasource-routing.replicas[0].url", replicaContainer::getJdbcUrl);
+			registry.add("datasource-routing.replicas[0].username", replicaContainer::getUsername);
+			registry.add("datasource-routing.replicas[0].password", replicaContainer::getPassword);
+		};
+	}
+
+}
@@ -0,0 +1,229 @@
+package com.ibmprojects.spring_boot_service;
+
+import com.ibmprojects.spring_boot_service.event.ArtifactChangedEvent.ChangeType;
+import com.ibmprojects.spring_boot_service.model.Artifact;
+import com.ibmprojects.spring_boot_service.model.SyncOutboxEvent;
+import com.ibmprojects.spring_boot_service.repository.ArtifactRepository;
+import com.ibmprojects.spring_boot_service.repository.SyncOutboxRepository;
+import com.ibmprojects.spring_boot_service.service.SyncOutboxService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.awaitility.Awaitility.await;
+
+// Outbox delivery against a NodeSyncStandIn. Outbox rows are written straight through the repository
+// (no ArtifactChangedEvent, so no wake-up) and the tests drain explicitly; the poll is effectively off.
+@Import({TestcontainersConfiguration.class, NodeSyncStandInConfiguration.class})
+@SpringBootTest(properties = {
+		"sync.interval=86400000",
+		"sync.outbox.poll-interval=86400000",
+		"sync.outbox.initial-backoff=1m",
+		"sync.outbox.max-backoff=1h",
+		"sync.outbox.max-attempts=3",
+		"lookup-index.enabled=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class SyncOutboxTests {
+
+	@Autowired
+	private NodeSyncStandIn nodeSyncStandIn;
+
+	@Autowired
+	private SyncOutboxService outboxService;
+
+	@Autowired
+	private SyncOutboxRepository outboxRepository;
+
+	@Autowired
+	private ArtifactRepository artifactRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@BeforeEach
+	void emptyOutbox() {
+		outboxRepository.deleteAllInBatch();
+		nodeSyncStandIn.reset();
+	}
+
+	@Test
+	void collapsesEventsOfOneArtifactIntoOneDelivery() {
+		long updated = createArtifact("outbox-collapse-updated");
+		long other = createArtifact("outbox-collapse-other");
+		long deleted = createArtifact("outbox-collapse-deleted");
+		record(updated, ChangeType.CREATED);
+		record(updated, ChangeType.UPDATED);
+		record(other, ChangeType.CREATED);
+		record(updated, ChangeType.UPDATED);
+		record(deleted, ChangeType.CREATED);
+		record(deleted, ChangeType.DELETED);
+
+		assertThat(outboxService.drain()).isEqualTo(6);
+
+		// One upsert request with each artifact once, one delete request
+		assertThat(nodeSyncStandIn.requests()).isEqualTo(2);
+		assertThat(nodeSyncStandIn.artifactsReceived()).isEqualTo(2);
+		assertThat(nodeSyncStandIn.acknowledgedAt(updated)).isNotNull();
+		assertThat(nodeSyncStandIn.acknowledgedAt(other)).isNotNull();
+		assertThat(nodeSyncStandIn.acknowledgedAt(deleted)).isNull();
+		assertThat(nodeSyncStandIn.isDeleted(deleted)).isTrue();
+		assertThat(outboxRepository.count()).isZero();
+	}
+
+	@Test
+	void failedDeliveryBacksOffExponentially() {
+		long id = createArtifact("outbox-backoff");
+		long eventId = record(id, ChangeType.CREATED);
+		nodeSyncStandIn.serverErrors(1, 500);
+
+		assertThat(outboxService.drain()).isZero();
+		SyncOutboxEvent event = outboxRepository.findById(eventId).orElseThrow();
+		assertThat(event.getAttempts()).isEqualTo(1);
+		assertThat(event.getNextAttemptAt()).isCloseTo(LocalDateTime.now().plusMinutes(1), within(10, ChronoUnit.SECONDS));
+		assertThat(event.getClaimedBy()).isNull();
+		assertThat(event.getClaimedUntil()).isNull();
+
+		// Not retried while backing off
+		assertThat(outboxService.drain()).isZero();
+		assertThat(nodeSyncStandIn.requests()).isEqualTo(1);
+
+		makeDue(eventId);
+		assertThat(outboxService.drain()).isZero();
+		event = outboxRepository.findById(eventId).orElseThrow();
+		assertThat(event.getAttempts()).isEqualTo(2);
+		assertThat(event.getNextAttemptAt()).isCloseTo(LocalDateTime.now().plusMinutes(2), within(10, ChronoUnit.SECONDS));
+		assertThat(event.getParkedAt()).isNull();
+	}
+
+	@Test
+	void parksAfterMaxAttemptsUntilRequeued() {
+		long id = createArtifact("outbox-parked");
+		long eventId = record(id, ChangeType.CREATED);
+		nodeSyncStandIn.serverErrors(1, 500);
+
+		for (int attempt = 0; attempt < 3; attempt++) {
+			makeDue(eventId);
+			assertThat(outboxService.drain()).isZero();
+		}
+		SyncOutboxEvent parked = outboxRepository.findById(eventId).orElseThrow();
+		assertThat(parked.getAttempts()).isEqualTo(3);
+		assertThat(parked.getParkedAt()).isNotNull();
+
+		// Parked events are not retried, however long they have waited
+		makeDue(eventId);
+		long requests = nodeSyncStandIn.requests();
+		assertThat(outboxService.drain()).isZero();
+		assertThat(nodeSyncStandIn.requests()).isEqualTo(requests);
+		assertThat(outboxRepository.countByParkedAtIsNotNull()).isEqualTo(1);
+
+		nodeSyncStandIn.reset();
+		assertThat(outboxService.requeueParked()).isEqualTo(1);
+
+		// The requeue wakes the dispatcher up
+		await().atMost(Duration.ofSeconds(10)).until(() -> outboxRepository.count() == 0);
+		assertThat(nodeSyncStandIn.acknowledgedAt(id)).isNotNull();
+	}
+
+	@Test
+	void skipsEventsClaimedByAnotherInstance() {
+		long claimed = createArtifact("outbox-claimed");
+		long free = createArtifact("outbox-unclaimed");
+		long claimedEvent = record(claimed, ChangeType.CREATED);
+		// Same artifact as a claimed event: waits, so it cannot overtake that delivery
+		record(claimed, ChangeType.UPDATED);
+		record(free, ChangeType.CREATED);
+		claimFor(claimedEvent, "other-instance", LocalDateTime.now().plusHours(1));
+
+		assertThat(outboxService.drain()).isEqualTo(1);
+		assertThat(nodeSyncStandIn.acknowledgedAt(free)).isNotNull();
+		assertThat(nodeSyncStandIn.acknowledgedAt(claimed)).isNull();
+		assertThat(outboxRepository.count()).isEqualTo(2);
+
+		// The other instance died: once its claim expires the events are taken over
+		claimFor(claimedEvent, "other-instance", LocalDateTime.now().minusSeconds(1));
+		assertThat(outboxService.drain()).isEqualTo(2);
+		assertThat(nodeSyncStandIn.acknowledgedAt(claimed)).isNotNull();
+		assertThat(outboxRepository.count()).isZero();
+	}
+
+	@Test
+	void concurrentClaimsGetDisjointRows() throws Exception {
+		for (int i = 0; i < 4; i++) {
+			record(createArtifact("outbox-concurrent-" + i), ChangeType.CREATED);
+		}
+		TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+		CountDownLatch firstClaimed = new CountDownLatch(1);
+		CountDownLatch secondClaimed = new CountDownLatch(1);
+
+		// The first claim holds its row locks until the second one has run
+		CompletableFuture<List<Long>> first = CompletableFuture.supplyAsync(() -> transaction.execute(status -> {
+			List<Long> ids = claim("instance-a");
+			firstClaimed.countDown();
+			awaitLatch(secondClaimed);
+			return ids;
+		}));
+		awaitLatch(firstClaimed);
+		List<Long> second = transaction.execute(status -> claim("instance-b"));
+		secondClaimed.countDown();
+
+		assertThat(first.get(10, TimeUnit.SECONDS)).hasSize(2);
+		assertThat(second).hasSize(2).doesNotContainAnyElementsOf(first.get());
+	}
+
+	private List<Long> claim(String instance) {
+		LocalDateTime now = LocalDateTime.now();
+		List<Long> ids = outboxRepository.findClaimable(now, Limit.of(2)).stream().map(SyncOutboxEvent::getId).toList();
+		outboxRepository.claim(ids, instance, now.plusMinutes(5));
+		return ids;
+	}
+
+	private void claimFor(long eventId, String instance, LocalDateTime until) {
+		new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+				outboxRepository.claim(List.of(eventId), instance, until));
+	}
+
+	private void makeDue(long eventId) {
+		SyncOutboxEvent event = outboxRepository.findById(eventId).orElseThrow();
+		event.setNextAttemptAt(LocalDateTime.now().minusSeconds(1));
+		outboxRepository.save(event);
+	}
+
+	private long record(long artifactId, ChangeType type) {
+		return outboxRepository.save(SyncOutboxEvent.of(artifactId, type)).getId();
+	}
+
+	private long createArtifact(String name) {
+		Artifact artifact = new Artifact();
+		artifact.setName(name);
+		artifact.setVersion("1.0.0");
+		artifact.setType("JAR");
+		return artifactRepository.save(artifact).getId();
+	}
+
+	private static void awaitLatch(CountDownLatch latch) {
+		try {
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
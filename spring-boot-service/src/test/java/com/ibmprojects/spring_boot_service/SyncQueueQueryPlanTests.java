@@ -0,0 +1,101 @@
+package com.ibmprojects.spring_boot_service;
+
+import com.ibmprojects.spring_boot_service.model.Artifact;
+import com.ibmprojects.spring_boot_service.repository.ArtifactRepository;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.Statement;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Seeds 1M artifacts (1% pending) and checks that the sync queue queries are served
+// by idx_artifact_sync_pending instead of a full table scan. Tagged perf (./mvnw -Pperf test):
+// with a small table the optimizer may prefer a scan, so the seed cannot be cut down.
+@Tag("perf")
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+		"sync.outbox.enabled=false",
+		"sync.interval=86400000",
+		"spring.jpa.show-sql=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class SyncQueueQueryPlanTests {
+
+	private static final int ROWS = 1_000_000;
+
+	private static final String INDEX = "idx_artifact_sync_pending";
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private ArtifactRepository artifactRepository;
+
+	@BeforeAll
+	void seed() {
+		jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+			try (Statement statement = connection.createStatement()) {
+				// Recursion depth is a session variable, so it has to share the connection with the insert
+				statement.execute("SET SESSION cte_max_recursion_depth = " + ROWS);
+				statement.execute("""
+						INSERT INTO artifact (name, version, type, is_synced, last_sync_time)
+						WITH RECURSIVE seq (n) AS (
+						    SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < %d
+						)
+						SELECT CONCAT('bench-', n), '1.0.0', 'JAR', n %% 100 <> 0, IF(n %% 100 <> 0, NOW(), NULL)
+						FROM seq
+						""".formatted(ROWS));
+				statement.execute("ANALYZE TABLE artifact");
+			}
+			return null;
+		});
+	}
+
+	@Test
+	void syncBatchQueryUsesPendingIndex() {
+		Map<String, Object> plan = explain(
+				"SELECT * FROM artifact WHERE sync_pending = TRUE AND id > 0 ORDER BY id LIMIT 100");
+
+		assertThat(plan.get("key")).isEqualTo(INDEX);
+		assertThat(plan.get("type")).isEqualTo("range");
+		assertThat(String.valueOf(plan.get("Extra"))).doesNotContain("filesort");
+	}
+
+	@Test
+	void backlogCountUsesPendingIndex() {
+		Map<String, Object> plan = explain("SELECT COUNT(*) FROM artifact WHERE sync_pending = TRUE");
+
+		assertThat(plan.get("key")).isEqualTo(INDEX);
+		assertThat(String.valueOf(plan.get("Extra"))).contains("Using index");
+	}
+
+	@Test
+	void repositoryWalksTheQueueInKeysetOrder() {
+		List<Artifact> batch = artifactRepository.findSyncBatch(0L, Limit.of(100));
+
+		assertThat(batch).hasSize(100).allMatch(Artifact::getSyncPending);
+		assertThat(batch).extracting(Artifact::getId).isSorted();
+		// Seed data plus the three sample rows from V1
+		assertThat(artifactRepository.countBySyncPendingTrue()).isEqualTo(ROWS / 100 + 3);
+	}
+
+	private Map<String, Object> explain(String sql) {
+		List<Map<String, Object>> rows = jdbcTemplate.queryForList("EXPLAIN " + sql);
+		assertThat(rows).hasSize(1);
+		return rows.get(0);
+	}
+
+}
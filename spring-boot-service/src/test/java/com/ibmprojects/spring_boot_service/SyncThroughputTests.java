@@ -0,0 +1,261 @@
+package com.ibmprojects.spring_boot_service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactCreateRequest;
+import com.ibmprojects.spring_boot_service.repository.ArtifactRepository;
+import com.ibmprojects.spring_boot_service.service.ArtifactService;
+import com.ibmprojects.spring_boot_service.service.impl.SyncServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// End-to-end sync throughput against MySQL and a NodeSyncStandIn with latency, partial failures (207)
+// and injected 5xx. Reports artifacts/s, DB round trips (JDBC executions seen by the query profiler)
+// and sync lag, logs them and writes target/sync-perf/<scenario>.json for CI to keep.
+// Run with ./mvnw -Pperf test; sizes, fault ratios and thresholds are -Dsync.perf.* properties.
+@Tag("perf")
+@Import({TestcontainersConfiguration.class, NodeSyncStandInConfiguration.class})
+@SpringBootTest(properties = {
+		"sync.interval=86400000",
+		"lookup-index.enabled=false"
+})
+@Testcontainers(disabledWithoutDocker = true)
+@Slf4j
+class SyncThroughputTests {
+
+	private static final int BACKLOG = Integer.getInteger("sync.perf.backlog", 20_000);
+	private static final int WRITES = Integer.getInteger("sync.perf.writes", 1_000);
+	private static final Duration LATENCY = Duration.ofMillis(Long.getLong("sync.perf.latency-ms", 20));
+	private static final Duration LATENCY_PER_ARTIFACT =
+			Duration.ofNanos(Long.getLong("sync.perf.latency-per-artifact-us", 200) * 1000);
+	private static final double FAILURE_RATIO = doubleProperty("sync.perf.failure-ratio", 0.02);
+	private static final double SERVER_ERROR_RATIO = doubleProperty("sync.perf.server-error-ratio", 0.02);
+
+	// Regression gates
+	private static final double MIN_ARTIFACTS_PER_SECOND = doubleProperty("sync.perf.min-artifacts-per-second", 500);
+	private static final double MAX_ROUND_TRIPS_PER_ARTIFACT = doubleProperty("sync.perf.max-round-trips-per-artifact", 0.05);
+	private static final Duration MAX_P99_LAG = Duration.ofMillis(Long.getLong("sync.perf.max-p99-lag-ms", 10_000));
+
+	// Failed artifacts are picked up again by the next pass
+	private static final int MAX_PASSES = 20;
+
+	private static final Path REPORT_DIR = Path.of("target", "sync-perf");
+
+	@Autowired
+	private NodeSyncStandIn nodeSyncStandIn;
+
+	@Autowired
+	private SyncServiceImpl syncService;
+
+	@Autowired
+	private ArtifactService artifactService;
+
+	@Autowired
+	private ArtifactRepository artifactRepository;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private MeterRegistry meterRegistry;
+
+	@BeforeEach
+	void configureStandIn() {
+		nodeSyncStandIn.reset();
+		nodeSyncStandIn.latency(LATENCY, LATENCY_PER_ARTIFACT)
+				.failureRatio(FAILURE_RATIO)
+				.serverErrors(SERVER_ERROR_RATIO, 503);
+	}
+
+	@Test
+	void scheduledSyncDrainsUnsyncedBacklog() throws IOException {
+		long firstId = seedUnsynced(BACKLOG);
+		long seeded = System.nanoTime();
+
+		long roundTrips = 0;
+		int passes = 0;
+		long pending = artifactRepository.countBySyncPendingTrue();
+		while (pending > 0 && passes < MAX_PASSES) {
+			long statementsBefore = jdbcExecutions();
+			syncService.scheduledSync();
+			roundTrips += jdbcExecutions() - statementsBefore;
+			passes++;
+			pending = artifactRepository.countBySyncPendingTrue();
+		}
+		double seconds = (System.nanoTime() - seeded) / 1e9;
+
+		long[] lagNanos = new long[BACKLOG];
+		for (int i = 0; i < BACKLOG; i++) {
+			Long acknowledged = nodeSyncStandIn.acknowledgedAt(firstId + i);
+			lagNanos[i] = acknowledged == null ? Long.MAX_VALUE : acknowledged - seeded;
+		}
+
+		Map<String, Object> report = report("backlog", BACKLOG, seconds, roundTrips, lagNanos);
+		report.put("passes", passes);
+		write("backlog", report);
+
+		assertThat(pending).as("artifacts still pending after %d passes", passes).isZero();
+		assertThat(BACKLOG / seconds).as("artifacts/s").isGreaterThanOrEqualTo(MIN_ARTIFACTS_PER_SECOND);
+		assertThat((double) roundTrips / BACKLOG).as("DB round trips per artifact")
+				.isLessThanOrEqualTo(MAX_ROUND_TRIPS_PER_ARTIFACT);
+	}
+
+	@Test
+	void outboxDeliversNewArtifacts() throws IOException, InterruptedException {
+		long statementsBefore = jdbcExecutions();
+		long started = System.nanoTime();
+		Map<Long, Long> committedAt = new LinkedHashMap<>();
+		for (int i = 0; i < WRITES; i++) {
+			ArtifactCreateRequest request = new ArtifactCreateRequest();
+			request.setName("perf-outbox-" + i);
+			request.setVersion("1.0." + i);
+			request.setType("JAR");
+			request.setDescription("Sync throughput harness artifact " + i);
+			request.setRepositoryUrl("https://github.com/example/perf-" + (i % 20));
+			request.setBuildStatus("SUCCESS");
+			request.setMetadata(Map.of("groupId", "com.example.perf", "license", "Apache-2.0"));
+			long id = artifactService.createArtifact(request).getId();
+			committedAt.put(id, System.nanoTime());
+		}
+
+		// Failed deliveries are retried by the outbox poll (sync.outbox.poll-interval)
+		long deadline = System.nanoTime() + MAX_P99_LAG.multipliedBy(3).toNanos();
+		while (!allAcknowledged(committedAt.keySet()) && System.nanoTime() < deadline) {
+			Thread.sleep(50);
+		}
+		double seconds = (System.nanoTime() - started) / 1e9;
+		long roundTrips = jdbcExecutions() - statementsBefore;
+
+		long[] lagNanos = new long[WRITES];
+		int i = 0;
+		for (Map.Entry<Long, Long> entry : committedAt.entrySet()) {
+			Long acknowledged = nodeSyncStandIn.acknowledgedAt(entry.getKey());
+			lagNanos[i++] = acknowledged == null ? Long.MAX_VALUE : Math.max(0, acknowledged - entry.getValue());
+		}
+
+		Map<String, Object> report = report("outbox", WRITES, seconds, roundTrips, lagNanos);
+		write("outbox", report);
+
+		assertThat(allAcknowledged(committedAt.keySet())).as("every created artifact reached the stand-in").isTrue();
+		assertThat(Duration.ofNanos(percentile(lagNanos, 0.99))).as("p99 sync lag").isLessThanOrEqualTo(MAX_P99_LAG);
+	}
+
+	private long seedUnsynced(int rows) {
+		// Explicit ids above everything Hibernate may have reserved from artifact_seq (V8), then the
+		// sequence is moved past the seeded range so later inserts through JPA cannot collide
+		long firstId = jdbcTemplate.queryForObject(
+				"SELECT GREATEST(COALESCE(MAX(id), 0), (SELECT next_val FROM artifact_seq)) + 1 FROM artifact", Long.class);
+		jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+			try (Statement statement = connection.createStatement()) {
+				// Recursion depth is a session variable, so it has to share the connection with the insert
+				statement.execute("SET SESSION cte_max_recursion_depth = " + rows);
+				statement.execute("""
+						INSERT INTO artifact (id, name, version, type, description, metadata, repository_url,
+						                      build_status, is_synced, last_sync_time)
+						WITH RECURSIVE seq (n) AS (
+						    SELECT 0 UNION ALL SELECT n + 1 FROM seq WHERE n < %d
+						)
+						SELECT %d + n, CONCAT('perf-backlog-', n DIV 20), CONCAT('1.', n %% 20, '.0'), 'JAR',
+						       CONCAT('Sync throughput harness artifact ', n),
+						       JSON_OBJECT('groupId', CONCAT('com.example.group', n %% 2000), 'license', 'Apache-2.0'),
+						       CONCAT('https://github.com/example/perf-', n %% 500), 'SUCCESS', FALSE, NULL
+						FROM seq
+						""".formatted(rows - 1, firstId));
+				statement.execute("UPDATE artifact_seq SET next_val = " + (firstId + rows + 51));
+			}
+			return null;
+		});
+		return firstId;
+	}
+
+	private boolean allAcknowledged(Iterable<Long> ids) {
+		for (Long id : ids) {
+			if (nodeSyncStandIn.acknowledgedAt(id) == null) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	// Every JDBC execution is one db.query timer sample, recorded by the query profiler
+	private long jdbcExecutions() {
+		return meterRegistry.find("db.query").timers().stream().mapToLong(Timer::count).sum();
+	}
+
+	private Map<String, Object> report(String scenario, int artifacts, double seconds, long roundTrips, long[] lagNanos) {
+		Map<String, Object> standIn = new LinkedHashMap<>();
+		standIn.put("latencyMs", LATENCY.toMillis());
+		standIn.put("latencyPerArtifactUs", LATENCY_PER_ARTIFACT.toNanos() / 1000);
+		standIn.put("failureRatio", FAILURE_RATIO);
+		standIn.put("serverErrorRatio", SERVER_ERROR_RATIO);
+		standIn.put("requests", nodeSyncStandIn.requests());
+		standIn.put("serverErrors", nodeSyncStandIn.serverErrors());
+		standIn.put("artifactsReceived", nodeSyncStandIn.artifactsReceived());
+		standIn.put("artifactsFailed", nodeSyncStandIn.artifactsFailed());
+
+		Map<String, Object> lag = new LinkedHashMap<>();
+		lag.put("p50Ms", percentile(lagNanos, 0.50) / 1_000_000);
+		lag.put("p95Ms", percentile(lagNanos, 0.95) / 1_000_000);
+		lag.put("p99Ms", percentile(lagNanos, 0.99) / 1_000_000);
+		lag.put("maxMs", percentile(lagNanos, 1.0) / 1_000_000);
+
+		Map<String, Object> report = new LinkedHashMap<>();
+		report.put("scenario", scenario);
+		report.put("artifacts", artifacts);
+		report.put("seconds", seconds);
+		report.put("artifactsPerSecond", artifacts / seconds);
+		report.put("dbRoundTrips", roundTrips);
+		report.put("dbRoundTripsPerArtifact", (double) roundTrips / artifacts);
+		report.put("syncLag", lag);
+		report.put("standIn", standIn);
+
+		log.info("Sync {}: {} artifacts in {} s ({} artifacts/s), {} DB round trips ({} per artifact), "
+						+ "lag p50 {} ms / p99 {} ms / max {} ms, {} requests ({} injected 5xx)",
+				scenario, artifacts, String.format("%.2f", seconds), String.format("%.0f", artifacts / seconds),
+				roundTrips, String.format("%.3f", (double) roundTrips / artifacts),
+				lag.get("p50Ms"), lag.get("p99Ms"), lag.get("maxMs"),
+				nodeSyncStandIn.requests(), nodeSyncStandIn.serverErrors());
+		return report;
+	}
+
+	private static void write(String scenario, Map<String, Object> report) throws IOException {
+		Files.createDirectories(REPORT_DIR);
+		new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+				.writeValue(REPORT_DIR.resolve(scenario + ".json").toFile(), report);
+	}
+
+	// Nearest-rank percentile; never-acknowledged artifacts count as Long.MAX_VALUE
+	private static long percentile(long[] values, double quantile) {
+		long[] sorted = values.clone();
+		Arrays.sort(sorted);
+		int rank = (int) Math.ceil(quantile * sorted.length);
+		return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+	}
+
+	private static double doubleProperty(String name, double defaultValue) {
+		String value = System.getProperty(name);
+		return value == null ? defaultValue : Double.parseDouble(value);
+	}
+
+}
@@ -0,0 +1,101 @@
+package com.ibmprojects.spring_boot_service;
+
+import com.ibmprojects.spring_boot_service.version.SemanticVersion;
+import db.migration.V11__backfill_version_sort_keys;
+import org.flywaydb.core.api.migration.Context;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+// Runs the V11 backfill again over rows whose keys were cleared and checks that it agrees with
+// SemanticVersion, which computes the keys of new writes.
+@Import(TestcontainersConfiguration.class)
+@SpringBootTest(properties = {
+		"sync.outbox.enabled=false",
+		"sync.interval=86400000"
+})
+@Testcontainers(disabledWithoutDocker = true)
+class VersionSortKeyBackfillTests {
+
+	// More than one backfill page (1000 rows)
+	private static final int ROWS = 2500;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Test
+	void backfillMatchesTheEntityParser() throws Exception {
+		jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+			try (Statement statement = connection.createStatement()) {
+				statement.execute("SET SESSION cte_max_recursion_depth = " + ROWS);
+				// Releases, pre-releases, build metadata and versions that are not semver-like
+				statement.execute("""
+						INSERT INTO artifact (name, version, type)
+						WITH RECURSIVE seq (n) AS (
+						    SELECT 1 UNION ALL SELECT n + 1 FROM seq WHERE n < %d
+						)
+						SELECT CONCAT('backfill-', n),
+						       CASE n %% 5
+						           WHEN 0 THEN 'latest'
+						           WHEN 1 THEN CONCAT(n %% 7, '.', n %% 13, '.', n, '-rc.', n %% 12)
+						           WHEN 2 THEN CONCAT('v', n %% 7, '.', n)
+						           WHEN 3 THEN CONCAT(n, '.0.0+build.', n)
+						           ELSE CONCAT(n %% 7, '.', n %% 13, '.', n)
+						       END,
+						       'JAR'
+						FROM seq
+						""".formatted(ROWS));
+			}
+			return null;
+		});
+		jdbcTemplate.update("UPDATE artifact SET version_sort_key = NULL, version_prerelease_key = NULL");
+		Map<Long, Object> updatedAtBefore = updatedAt();
+
+		try (Connection connection = dataSource.getConnection()) {
+			Context context = mock(Context.class);
+			when(context.getConnection()).thenReturn(connection);
+			new V11__backfill_version_sort_keys().migrate(context);
+		}
+
+		List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+				"SELECT version, version_sort_key, version_prerelease_key FROM artifact");
+		assertThat(rows).hasSizeGreaterThanOrEqualTo(ROWS);
+		for (Map<String, Object> row : rows) {
+			SemanticVersion expected = SemanticVersion.parse((String) row.get("version"));
+			assertThat(row.get("version_sort_key"))
+					.as("sort key of %s", row.get("version"))
+					.isEqualTo(expected == null ? null : expected.sortKey());
+			assertThat(row.get("version_prerelease_key"))
+					.as("pre-release key of %s", row.get("version"))
+					.isEqualTo(expected == null ? null : expected.prereleaseSortKey());
+		}
+		// The backfill is not a content change
+		assertThat(updatedAt()).isEqualTo(updatedAtBefore);
+	}
+
+	private Map<Long, Object> updatedAt() {
+		Map<Long, Object> updatedAt = new HashMap<>();
+		jdbcTemplate.query("SELECT id, updated_at FROM artifact",
+				rs -> { updatedAt.put(rs.getLong(1), rs.getObject(2)); });
+		return updatedAt;
+	}
+
+}
@@ -0,0 +1,134 @@
+package com.ibmprojects.spring_boot_service.cache;
+
+import com.ibmprojects.spring_boot_service.config.DataSourceRoutingConfig;
+import com.ibmprojects.spring_boot_service.dto.artifact.ArtifactResponse;
+import com.ibmprojects.spring_boot_service.event.ArtifactChangedEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleCacheManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArtifactCacheTests {
+
+	private static final ObjectProvider<DataSourceRoutingConfig> NO_REPLICAS =
+			new StaticListableBeanFactory().getBeanProvider(DataSourceRoutingConfig.class);
+
+	@Test
+	void callersCannotChangeTheCachedEntry() {
+		ArtifactCache cache = new ArtifactCache(new CaffeineCacheManager(), NO_REPLICAS);
+		AtomicInteger loads = new AtomicInteger();
+		ArtifactResponse loaded = artifact(1L, "loaded");
+		loaded.setMetadata(new HashMap<>(Map.of("tags", List.of("a"))));
+
+		ArtifactResponse first = cache.getById(1L, () -> {
+			loads.incrementAndGet();
+			return loaded;
+		});
+		first.setDescription("changed by a caller");
+		assertThatThrownBy(() -> first.getMetadata().put("added", "by a caller"))
+				.isInstanceOf(UnsupportedOperationException.class);
+		// Neither does changing what the loader returned
+		loaded.getMetadata().put("added", "by the loader");
+
+		ArtifactResponse second = cache.getById(1L, () -> {
+			loads.incrementAndGet();
+			return artifact(1L, "reloaded");
+		});
+		assertThat(loads).hasValue(1);
+		assertThat(second).isNotSameAs(first);
+		assertThat(second.getDescription()).isEqualTo("loaded");
+		assertThat(second.getMetadata()).isEqualTo(Map.of("tags", List.of("a")));
+		assertThatThrownBy(() -> ((List<?>) second.getMetadata().get("tags")).remove(0))
+				.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void loadThatRacedAnEvictionIsNotKept() throws Exception {
+		ArtifactCache cache = new ArtifactCache(nonAtomicCaches(), NO_REPLICAS);
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch evicted = new CountDownLatch(1);
+
+		// Reads the row before the write commits and stores it after the write's eviction
+		CompletableFuture<ArtifactResponse> stale = CompletableFuture.supplyAsync(() -> cache.getById(1L, () -> {
+			loading.countDown();
+			awaitLatch(evicted);
+			return artifact(1L, "stale");
+		}));
+		awaitLatch(loading);
+		cache.onArtifactChanged(ArtifactChangedEvent.updated(artifact(1L, "stale"), artifact(1L, "fresh")));
+		evicted.countDown();
+
+		// The racing caller still gets what it read, but it is not cached
+		assertThat(stale.get(10, TimeUnit.SECONDS).getDescription()).isEqualTo("stale");
+		assertThat(cache.getById(1L, () -> artifact(1L, "fresh")).getDescription()).isEqualTo("fresh");
+	}
+
+	private static ArtifactResponse artifact(Long id, String description) {
+		ArtifactResponse response = new ArtifactResponse();
+		response.setId(id);
+		response.setName("cached");
+		response.setVersion("1.0.0");
+		response.setDescription(description);
+		return response;
+	}
+
+	// Caffeine holds a miss's store and a concurrent evict of the same key apart; a cache without
+	// an atomic get(key, loader) does not, which lets the evict land in the middle of the load
+	private static CacheManager nonAtomicCaches() {
+		SimpleCacheManager manager = new SimpleCacheManager();
+		manager.setCaches(List.of(
+				new NonAtomicCache(ArtifactCache.BY_ID),
+				new NonAtomicCache(ArtifactCache.BY_NAME_VERSION),
+				new NonAtomicCache(ArtifactCache.BY_COMMIT_HASH)));
+		manager.afterPropertiesSet();
+		return manager;
+	}
+
+	private static class NonAtomicCache extends ConcurrentMapCache {
+
+		NonAtomicCache(String name) {
+			super(name);
+		}
+
+		@Override
+		@SuppressWarnings("unchecked")
+		public <T> T get(Object key, Callable<T> valueLoader) {
+			ValueWrapper cached = get(key);
+			if (cached != null) {
+				return (T) cached.get();
+			}
+			try {
+				T value = valueLoader.call();
+				put(key, value);
+				return value;
+			} catch (Exception e) {
+				throw new ValueRetrievalException(key, valueLoader, e);
+			}
+		}
+	}
+
+	private static void awaitLatch(CountDownLatch latch) {
+		try {
+			assertThat(latch.await(10, TimeUnit.SECONDS)).isTrue();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(e);
+		}
+	}
+
+}
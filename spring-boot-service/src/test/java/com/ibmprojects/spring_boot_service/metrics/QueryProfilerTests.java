@@ -0,0 +1,110 @@
+package com.ibmprojects.spring_boot_service.metrics;
+
+import com.ibmprojects.spring_boot_service.config.QueryProfilerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import net.ttddyy.dsproxy.ExecutionInfo;
+import net.ttddyy.dsproxy.QueryInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryProfilerTests {
+
+	private SimpleMeterRegistry registry;
+	private QueryProfilerConfig config;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		config = new QueryProfilerConfig();
+		config.setSlowThreshold(Duration.ofMillis(100));
+		config.setMaxShapes(3);
+		config.setSlowSamples(2);
+	}
+
+	@ParameterizedTest
+	@CsvSource(delimiter = '|', value = {
+			"SELECT * FROM artifact WHERE id = 42                  | SELECT * FROM artifact WHERE id = 7",
+			"SELECT * FROM artifact WHERE name = 'a' AND x = -1.5  | SELECT * FROM artifact WHERE name = 'it''s' AND x = 3",
+			"SELECT * FROM artifact WHERE id IN (?, ?)             | SELECT * FROM artifact WHERE id IN (?,?,?, ?)",
+			"'SELECT *\n  FROM artifact   WHERE id = ?'            | SELECT * FROM artifact WHERE id = ?"
+	})
+	void literalsAndWhitespaceNormalizeToOneShape(String sql, String other) {
+		assertThat(QueryProfiler.normalize(sql)).isEqualTo(QueryProfiler.normalize(other));
+	}
+
+	@Test
+	void keepsIdentifiersThatContainDigits() {
+		assertThat(QueryProfiler.normalize("SELECT t1.id FROM artifact t1 WHERE t1.v2 = 5 AND id IN (1, 2)"))
+				.isEqualTo("SELECT t1.id FROM artifact t1 WHERE t1.v2 = ? AND id IN (?, ...)");
+	}
+
+	@Test
+	void executionsOfOneShapeShareAnEntry() {
+		QueryProfiler profiler = new QueryProfiler(config, registry);
+
+		record(profiler, "SELECT * FROM artifact WHERE id = 1", 5);
+		record(profiler, "SELECT * FROM artifact WHERE id = 2", 5);
+		record(profiler, "UPDATE artifact SET name = 'x' WHERE id = 3", 5);
+
+		List<QueryProfiler.ShapeSummary> shapes = profiler.topShapes(10);
+		assertThat(shapes).extracting(QueryProfiler.ShapeSummary::getOperation).containsExactlyInAnyOrder("select", "update");
+		QueryProfiler.ShapeSummary select = shapes.stream()
+				.filter(shape -> shape.getOperation().equals("select")).findFirst().orElseThrow();
+		assertThat(select.getCount()).isEqualTo(2);
+		assertThat(select.getSql()).isEqualTo("SELECT * FROM artifact WHERE id = ?");
+		assertThat(registry.get("db.query").tag("shape", select.getId()).timer().count()).isEqualTo(2);
+	}
+
+	@Test
+	void onlyExecutionsAtOrOverTheThresholdAreSlow() {
+		QueryProfiler profiler = new QueryProfiler(config, registry);
+
+		record(profiler, "SELECT * FROM artifact WHERE id = 1", 99);
+		assertThat(profiler.recentSlowExecutions()).isEmpty();
+
+		record(profiler, "SELECT * FROM artifact WHERE id = 2", 100);
+		record(profiler, "SELECT * FROM artifact WHERE id = 3", 250);
+		List<QueryProfiler.SlowExecution> slow = profiler.recentSlowExecutions();
+		assertThat(slow).extracting(QueryProfiler.SlowExecution::getElapsedMs).containsExactly(100L, 250L);
+		assertThat(slow.get(0).getSql()).isEqualTo("SELECT * FROM artifact WHERE id = ?");
+		assertThat(slow.get(0).getRows()).isEqualTo(1);
+		assertThat(profiler.topShapes(1).get(0).getSlowCount()).isEqualTo(2);
+		assertThat(registry.get("db.query.slow").counter().count()).isEqualTo(2);
+
+		// Only the most recent slowSamples are kept
+		record(profiler, "SELECT * FROM artifact WHERE id = 4", 300);
+		assertThat(profiler.recentSlowExecutions()).extracting(QueryProfiler.SlowExecution::getElapsedMs)
+				.containsExactly(250L, 300L);
+	}
+
+	@Test
+	void shapesOverTheLimitShareOneEntry() {
+		QueryProfiler profiler = new QueryProfiler(config, registry);
+
+		for (String table : List.of("a", "b", "c", "d", "e")) {
+			record(profiler, "SELECT * FROM " + table, 1);
+		}
+
+		List<QueryProfiler.ShapeSummary> shapes = profiler.topShapes(10);
+		assertThat(shapes).hasSize(4);
+		assertThat(shapes).filteredOn(shape -> shape.getId().equals("other"))
+				.singleElement().satisfies(other -> assertThat(other.getCount()).isEqualTo(2));
+	}
+
+	// No result set is opened, so the update count (1) is the row count
+	private static void record(QueryProfiler profiler, String sql, long elapsedMs) {
+		ExecutionInfo execution = new ExecutionInfo();
+		execution.setElapsedTime(elapsedMs);
+		execution.setResult(1);
+		execution.setSuccess(true);
+		profiler.record(execution, List.of(new QueryInfo(sql)), null);
+	}
+
+}
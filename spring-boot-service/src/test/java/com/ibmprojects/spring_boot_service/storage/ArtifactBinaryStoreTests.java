@@ -0,0 +1,193 @@
+package com.ibmprojects.spring_boot_service.storage;
+
+import com.ibmprojects.spring_boot_service.config.ArtifactStorageConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ArtifactBinaryStoreTests {
+
+	@TempDir
+	Path root;
+
+	private SimpleMeterRegistry registry;
+	private ArtifactBinaryStore store;
+
+	@BeforeEach
+	void setUp() throws IOException {
+		ArtifactStorageConfig config = new ArtifactStorageConfig();
+		config.setRoot(root);
+		// Smaller than the uploads, so content spans several buffer fills
+		config.setBufferSize(DataSize.ofBytes(1024));
+		config.setMaxSize(DataSize.ofKilobytes(64));
+		registry = new SimpleMeterRegistry();
+		store = new ArtifactBinaryStore(config, registry);
+	}
+
+	@Test
+	void storesContentUnderItsChecksumWithItsSize() throws Exception {
+		byte[] content = randomBytes(10_000);
+
+		StoredBinary binary = store.store(new ByteArrayInputStream(content));
+
+		String checksum = sha256(content);
+		assertThat(binary.getChecksum()).isEqualTo(checksum);
+		assertThat(binary.getSizeBytes()).isEqualTo(content.length);
+		assertThat(binary.getPath()).isEqualTo("sha256/" + checksum.substring(0, 2) + "/" + checksum.substring(2, 4) + "/" + checksum);
+		assertThat(binary.isDeduplicated()).isFalse();
+		assertThat(Files.readAllBytes(root.resolve(binary.getPath()))).isEqualTo(content);
+		assertThat(stagedFiles()).isEmpty();
+	}
+
+	@Test
+	void storesEmptyContent() {
+		StoredBinary binary = store.store(new ByteArrayInputStream(new byte[0]));
+
+		assertThat(binary.getChecksum()).isEqualTo("e3b0c44298fc1c149afbf4c8996fb92427ae41e4649b934ca495991b7852b855");
+		assertThat(binary.getSizeBytes()).isZero();
+	}
+
+	@Test
+	void deduplicatesIdenticalContent() throws IOException {
+		byte[] content = randomBytes(5_000);
+
+		StoredBinary first = store.store(new ByteArrayInputStream(content));
+		StoredBinary second = store.store(new ByteArrayInputStream(content));
+
+		assertThat(second.isDeduplicated()).isTrue();
+		assertThat(second.getPath()).isEqualTo(first.getPath());
+		assertThat(second.getChecksum()).isEqualTo(first.getChecksum());
+		assertThat(stagedFiles()).isEmpty();
+		assertThat(registry.get("artifact.storage.uploads").tag("result", "stored").counter().count()).isEqualTo(1);
+		assertThat(registry.get("artifact.storage.uploads").tag("result", "deduplicated").counter().count()).isEqualTo(1);
+	}
+
+	@Test
+	void rejectsContentOverTheMaxSizeAndKeepsNothing() throws IOException {
+		byte[] content = randomBytes(64 * 1024 + 1);
+
+		assertThatThrownBy(() -> store.store(new ByteArrayInputStream(content)))
+				.isInstanceOf(MaxUploadSizeExceededException.class);
+
+		assertThat(stagedFiles()).isEmpty();
+		assertThat(Files.exists(root.resolve("sha256"))).isFalse();
+	}
+
+	@Test
+	void acceptsContentOfExactlyTheMaxSize() {
+		StoredBinary binary = store.store(new ByteArrayInputStream(randomBytes(64 * 1024)));
+
+		assertThat(binary.getSizeBytes()).isEqualTo(64 * 1024);
+	}
+
+	@Test
+	void resolvesOnlyTheAddressOfTheChecksum() throws IOException {
+		StoredBinary binary = store.store(new ByteArrayInputStream("content".getBytes(StandardCharsets.UTF_8)));
+		String checksum = binary.getChecksum();
+		Path staged = Files.createTempFile(root.resolve("tmp"), "upload-", ".part");
+
+		assertThat(store.resolve(binary.getPath(), checksum)).isEqualTo(root.resolve(binary.getPath()));
+		assertThat(store.resolve("sha256/../tmp/" + staged.getFileName(), checksum)).isNull();
+		assertThat(store.resolve("sha256/../tmp/" + staged.getFileName(), null)).isNull();
+		assertThat(store.resolve(binary.getPath(), null)).isNull();
+		assertThat(store.resolve(binary.getPath(), sha256(new byte[0]))).isNull();
+		assertThat(store.resolve(binary.getPath(), checksum.toUpperCase())).isNull();
+		assertThat(store.resolve("sha256/00/00/" + checksum, checksum)).isNull();
+		assertThat(store.resolve("/repo/app.jar", checksum)).isNull();
+		assertThat(store.resolve(null, checksum)).isNull();
+	}
+
+	@Test
+	void doesNotResolveMissingContent() {
+		String checksum = sha256(new byte[] {1, 2, 3});
+
+		assertThat(store.resolve("sha256/" + checksum.substring(0, 2) + "/" + checksum.substring(2, 4) + "/" + checksum, checksum)).isNull();
+	}
+
+	@Test
+	void discardsNewContentButKeepsDeduplicatedContent() {
+		byte[] content = randomBytes(2_000);
+		StoredBinary first = store.store(new ByteArrayInputStream(content));
+		StoredBinary second = store.store(new ByteArrayInputStream(content));
+
+		store.discard(second);
+		assertThat(root.resolve(first.getPath())).exists();
+
+		store.discard(first);
+		assertThat(root.resolve(first.getPath())).doesNotExist();
+	}
+
+	@Test
+	void removesOnlyOldUnreferencedContent() throws IOException {
+		StoredBinary referenced = store.store(new ByteArrayInputStream(randomBytes(100)));
+		StoredBinary unreferenced = store.store(new ByteArrayInputStream(randomBytes(200)));
+		StoredBinary recent = store.store(new ByteArrayInputStream(randomBytes(300)));
+		storedAgo(referenced, Duration.ofDays(1));
+		storedAgo(unreferenced, Duration.ofDays(1));
+
+		int removed = store.removeUnreferenced(Set.of(referenced.getPath()), Duration.ofHours(1));
+
+		assertThat(removed).isEqualTo(1);
+		assertThat(root.resolve(referenced.getPath())).exists();
+		assertThat(root.resolve(unreferenced.getPath())).doesNotExist();
+		// May still be attached by the upload that stored it
+		assertThat(root.resolve(recent.getPath())).exists();
+	}
+
+	@Test
+	void deduplicatedUploadRestartsTheGracePeriod() throws IOException {
+		byte[] content = randomBytes(400);
+		StoredBinary first = store.store(new ByteArrayInputStream(content));
+		storedAgo(first, Duration.ofDays(1));
+
+		store.store(new ByteArrayInputStream(content));
+
+		assertThat(store.removeUnreferenced(Set.of(), Duration.ofHours(1))).isZero();
+		assertThat(root.resolve(first.getPath())).exists();
+	}
+
+	private void storedAgo(StoredBinary binary, Duration age) throws IOException {
+		Files.setLastModifiedTime(root.resolve(binary.getPath()), FileTime.from(Instant.now().minus(age)));
+	}
+
+	private List<Path> stagedFiles() throws IOException {
+		try (Stream<Path> files = Files.list(root.resolve("tmp"))) {
+			return files.toList();
+		}
+	}
+
+	private static byte[] randomBytes(int size) {
+		byte[] bytes = new byte[size];
+		new Random(size).nextBytes(bytes);
+		return bytes;
+	}
+
+	private static String sha256(byte[] content) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+		} catch (Exception e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
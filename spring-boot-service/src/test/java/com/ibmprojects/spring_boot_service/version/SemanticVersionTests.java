@@ -0,0 +1,106 @@
+package com.ibmprojects.spring_boot_service.version;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SemanticVersionTests {
+
+	@ParameterizedTest
+	@CsvSource(nullValues = "null", value = {
+			"1.2.3,                 1, 2, 3, null",
+			"v2.0,                  2, 0, 0, null",
+			"V7,                    7, 0, 0, null",
+			"1.0.0-rc.1,            1, 0, 0, rc.1",
+			"3.1-SNAPSHOT,          3, 1, 0, SNAPSHOT",
+			"1.2.3+build.5,         1, 2, 3, null",
+			"1.2.3-beta.2+exp.sha,  1, 2, 3, beta.2",
+			"' 4.5.6 ',             4, 5, 6, null",
+			"1048575.1048575.1048575, 1048575, 1048575, 1048575, null"
+	})
+	void parsesSemverLikeVersions(String text, long major, long minor, long patch, String prerelease) {
+		SemanticVersion version = SemanticVersion.parse(text);
+
+		assertThat(version).isEqualTo(new SemanticVersion(major, minor, patch, prerelease));
+		assertThat(version.isPrerelease()).isEqualTo(prerelease != null);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"", "latest", "1.2.3.4", "1..2", "1.2.3-", "-1.0.0", "1.0.0 beta", "1048576.0.0", "12345678"})
+	void rejectsOtherVersions(String text) {
+		assertThat(SemanticVersion.parse(text)).isNull();
+	}
+
+	@Test
+	void rejectsNull() {
+		assertThat(SemanticVersion.parse(null)).isNull();
+	}
+
+	@Test
+	void sortKeyOrdersLikeTheVersions() {
+		// Ascending; pre-releases share the key of their version and sort below its release
+		List<String> ascending = List.of(
+				"0.0.1", "0.9.9", "1.0.0-alpha", "1.0.0", "1.0.1", "1.2.0", "1.10.0",
+				"2.0.0-SNAPSHOT", "2.0.0", "10.0.0", "1048575.1048575.1048575");
+
+		List<Long> keys = ascending.stream().map(v -> SemanticVersion.parse(v).sortKey()).toList();
+
+		assertThat(keys).isSortedAccordingTo(Comparator.naturalOrder()).doesNotHaveDuplicates();
+		assertThat(keys).allMatch(key -> key > 0);
+	}
+
+	@Test
+	void preReleasesOfOneVersionShareItsKey() {
+		long alpha = SemanticVersion.parse("1.0.0-alpha").sortKey();
+
+		assertThat(SemanticVersion.parse("1.0.0-rc.1").sortKey()).isEqualTo(alpha);
+		assertThat(SemanticVersion.parse("1.0.0").sortKey()).isEqualTo(alpha + 1);
+		assertThat(SemanticVersion.parse("0.99.99").sortKey()).isLessThan(alpha);
+	}
+
+	@Test
+	void prereleaseSortKeyOrdersByPrecedence() {
+		// Ascending, SemVer §11: numeric identifiers by value and below alphanumeric ones (compared
+		// in ASCII order, so upper case first), a shorter set of identifiers below a longer one
+		List<String> ascending = List.of(
+				"1.0.0-1", "1.0.0-2", "1.0.0-10", "1.0.0-SNAPSHOT", "1.0.0-alpha", "1.0.0-alpha.1", "1.0.0-alpha.beta",
+				"1.0.0-alpha-x", "1.0.0-beta", "1.0.0-beta.2", "1.0.0-beta.11", "1.0.0-rc.1", "1.0.0-rc.9",
+				"1.0.0-rc.10", "1.0.0-rc.10.1", "1.0.0-rc.100", "1.0.0-rc1");
+
+		List<String> keys = ascending.stream().map(v -> SemanticVersion.parse(v).prereleaseSortKey()).toList();
+
+		// Binary order, as the ascii_bin column compares them
+		assertThat(keys).isSortedAccordingTo(Comparator.naturalOrder()).doesNotHaveDuplicates();
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+			"1.0.0-rc.9,   1.0.0-rc.10",
+			"1.0.0-2,      1.0.0-11",
+			"1.0.0-beta.2, 1.0.0-beta.11",
+			"1.0.0-rc.01,  1.0.0-rc.2"
+	})
+	void numericIdentifiersCompareByValue(String lower, String higher) {
+		assertThat(SemanticVersion.parse(lower).prereleaseSortKey())
+				.isLessThan(SemanticVersion.parse(higher).prereleaseSortKey());
+	}
+
+	@Test
+	void releasesHaveNoPrereleaseSortKey() {
+		assertThat(SemanticVersion.parse("1.0.0").prereleaseSortKey()).isNull();
+		assertThat(SemanticVersion.parse("1.0.0+build.7").prereleaseSortKey()).isNull();
+	}
+
+	@Test
+	void optionalComponentsDefaultToZero() {
+		assertThat(SemanticVersion.parse("1").sortKey()).isEqualTo(SemanticVersion.parse("1.0.0").sortKey());
+		assertThat(SemanticVersion.parse("1.2").sortKey()).isEqualTo(SemanticVersion.parse("1.2.0").sortKey());
+	}
+
+}
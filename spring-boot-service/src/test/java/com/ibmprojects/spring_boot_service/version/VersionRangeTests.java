@@ -0,0 +1,163 @@
+package com.ibmprojects.spring_boot_service.version;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+class VersionRangeTests {
+
+	@ParameterizedTest(name = "{0} contains {1}: {2}")
+	@CsvSource({
+			// caret: same major, or same minor / patch below 1.0.0
+			"^1.2.3,          1.2.3,       true",
+			"^1.2.3,          1.9.9,       true",
+			"^1.2.3,          1.2.2,       false",
+			"^1.2.3,          1.2.3-rc.1,  false",
+			"^1.2.3,          2.0.0-rc.1,  false",
+			"^1.2.3,          2.0.0,       false",
+			"^1.2,            1.2.0,       true",
+			"^1,              1.99.0,      true",
+			"^0.2.3,          0.2.9,       true",
+			"^0.2.3,          0.3.0,       false",
+			"^0.0.3,          0.0.3,       true",
+			"^0.0.3,          0.0.4,       false",
+			"^0.0,            0.0.9,       true",
+			"^0.0,            0.1.0,       false",
+			"^*,              0.0.5,       true",
+			"^*,              99.0.0,      true",
+			// tilde: same minor, or same major for ~1
+			"~1.2.3,          1.2.9,       true",
+			"~1.2.3,          1.3.0,       false",
+			"~1.2.3,          1.2.2,       false",
+			"~1,              1.9.0,       true",
+			"~1,              2.0.0,       false",
+			"~*,              5.1.0,       true",
+			"~x,              0.1.0,       true",
+			// partial / wildcard
+			"1.2.x,           1.2.7,       true",
+			"1.2.x,           1.3.0,       false",
+			"1.x,             1.99.0,      true",
+			"1.x,             2.0.0-alpha, false",
+			"1,               1.0.0-alpha, true",
+			"*,               0.0.0,       true",
+			"X,               1048575.0.0, true",
+			// exact
+			"1.2.3,           1.2.3,       true",
+			"=1.2.3,          1.2.4,       false",
+			"v1.2.3,          1.2.3,       true",
+			"1.0.0-rc.1,      1.0.0-rc.2,  false",
+			"1.0.0-rc.10,     1.0.0-rc.10, true",
+			"1.0.0-rc.1,      1.0.0,       false",
+			// comparators, joined with their operand when written apart
+			">=1.2.0 <2.0.0,  1.5.0,       true",
+			">=1.2.0 <2.0.0,  2.0.0,       false",
+			">=1.2.0 <2.0.0,  1.1.9,       false",
+			">= 1.2.0,        1.2.0,       true",
+			">= 1.2.0,        1.1.0,       false",
+			"> 1.2.0 < 1.3.0, 1.2.5,       true",
+			"> 1.2.0 < 1.3.0, 1.2.0,       false",
+			"<=1.2.3,         1.2.3,       true",
+			"<=1.2.3,         1.2.4,       false",
+			"<1.2.3,          1.2.3-rc.1,  true",
+			">1.2.3,          1.2.3,       false",
+			">1.2.3,          1.2.4,       true",
+			// pre-release operands compare by SemVer precedence: rc.9 < rc.10
+			">=1.0.0-rc.9,    1.0.0-rc.10, true",
+			">1.0.0-rc.9,     1.0.0-rc.10, true",
+			">1.0.0-rc.9,     1.0.0-rc.9,  false",
+			">1.0.0-rc.10,    1.0.0-rc.9,  false",
+			">1.0.0-rc.9,     1.0.0,       true",
+			"<1.0.0-rc.10,    1.0.0-rc.9,  true",
+			"<1.0.0-rc.10,    1.0.0-rc.10, false",
+			"<=1.0.0-rc.9,    1.0.0-rc.9,  true",
+			"<=1.0.0-rc.9,    1.0.0-rc.10, false",
+			"<1.0.0-rc.1,     0.9.0,       true",
+			"<1.0.0-rc.1,     1.0.0-beta,  true",
+			">=1.0.0-alpha.1, 1.0.0-alpha, false",
+			">=1.0.0-alpha,   1.0.0-alpha.1, true",
+			// partial operands (npm): >1.2 is >=1.3.0, <=1.2 is <1.3.0-0
+			">1.2,            1.2.9,       false",
+			">1.2,            1.3.0,       true",
+			">1.2,            1.3.0-rc.1,  false",
+			">1,              1.9.0,       false",
+			">1,              2.0.0,       true",
+			">=1.2,           1.2.0,       true",
+			">=1.2,           1.1.9,       false",
+			"<1.2,            1.1.9,       true",
+			"<1.2,            1.2.0-rc.1,  false",
+			"<=1.2,           1.2.9,       true",
+			"<=1.2,           1.3.0,       false",
+			"<=1.2,           1.3.0-rc.1,  false",
+			"<=1,             1.99.0,      true",
+			">=x,             3.0.0,       true",
+			"<=*,             0.0.0,       true",
+			"^ 1.2,           1.4.0,       true",
+			"~ 1.2,           1.3.0,       false",
+			// hyphen: inclusive, a partial upper end covers everything it matches
+			"1.2.3 - 2.3.4,   2.3.4,       true",
+			"1.2.3 - 2.3.4,   2.3.5,       false",
+			"1.2.3 - 2.3.4,   1.2.2,       false",
+			"1.2 - 2.3,       1.2.0,       true",
+			"1.2 - 2.3,       2.3.9,       true",
+			"1.2 - 2.3,       2.4.0,       false",
+			"1.2 - 2,         2.99.0,      true",
+			"1.2 - 2,         3.0.0-rc.1,  false",
+			"1.0.0-rc.1 - 1,  1.0.0-rc.1,  true",
+			"1.0.0-rc.9 - 1.0.0-rc.10, 1.0.0-rc.10, true",
+			"1.0.0-rc.9 - 1.0.0-rc.10, 1.0.0-rc.11, false"
+	})
+	void matchesVersions(String range, String version, boolean expected) {
+		assertThat(contains(VersionRange.parse(range), version)).isEqualTo(expected);
+	}
+
+	@Test
+	void blankRangeMatchesEverything() {
+		assertThat(VersionRange.parse(null)).isEqualTo(VersionRange.ANY);
+		assertThat(VersionRange.parse("  ")).isEqualTo(VersionRange.ANY);
+		assertThat(VersionRange.parse("^*")).isEqualTo(VersionRange.ANY);
+		assertThat(VersionRange.parse("~x")).isEqualTo(VersionRange.ANY);
+	}
+
+	@Test
+	void upperBoundsStartBelowTheNextVersionsPreReleases() {
+		long nextMajor = SemanticVersion.parse("2.0.0-alpha").sortKey();
+
+		assertThat(VersionRange.parse("^1.2.3").getUpper()).isEqualTo(nextMajor);
+		assertThat(VersionRange.parse("1.x").getUpper()).isEqualTo(nextMajor);
+		assertThat(VersionRange.parse("<2.0.0-alpha").getUpper()).isEqualTo(nextMajor);
+		assertThat(VersionRange.parse("1.2 - 1").getUpper()).isEqualTo(nextMajor);
+	}
+
+	@Test
+	void contradictoryComparatorsAreEmpty() {
+		assertThat(VersionRange.parse(">=2.0.0 <1.0.0").isEmpty()).isTrue();
+		assertThat(VersionRange.parse(">1.2.3 <=1.2.3").isEmpty()).isTrue();
+		assertThat(VersionRange.parse("2.0.0 - 1.0.0").isEmpty()).isTrue();
+		assertThat(VersionRange.parse(">1.0.0-rc.10 <1.0.0-rc.9").isEmpty()).isTrue();
+		assertThat(VersionRange.parse(">*").isEmpty()).isTrue();
+		assertThat(VersionRange.parse("<x").isEmpty()).isTrue();
+		assertThat(VersionRange.parse("1.0.0-rc.9").isEmpty()).isFalse();
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {">=", "latest", "^", "~1.2.3.4", ">=y", "1.2.3 -", "1 - 2 - 3", ">=1 - 2", "^1.0.0-rc.1", "1048576"})
+	void rejectsInvalidRanges(String range) {
+		assertThatIllegalArgumentException().isThrownBy(() -> VersionRange.parse(range))
+				.withMessageStartingWith("Invalid version range");
+	}
+
+	@Test
+	void rejectsUnions() {
+		assertThatIllegalArgumentException().isThrownBy(() -> VersionRange.parse("1.x || 3.x"))
+				.withMessageContaining("not supported");
+	}
+
+	private static boolean contains(VersionRange range, String version) {
+		return range.contains(SemanticVersion.parse(version));
+	}
+
+}